@@ -0,0 +1,38 @@
+package card;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+//Deck 리셋/배분 벤치마크 (헤즈업 한 판 최대 16장 배분)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    private static final int CARDS_PER_HEADS_UP_HAND = 16;
+
+    private final Deck deck = new Deck();
+    private long seed;
+
+    @Benchmark
+    public void reset() {
+        deck.reset();
+    }
+
+    @Benchmark
+    public void resetAndDealHand(Blackhole blackhole) {
+        deck.reset();
+        for (int i = 0; i < CARDS_PER_HEADS_UP_HAND; i++) blackhole.consume(deck.draw());
+    }
+
+    @Benchmark
+    public void resetSeededAndDealHand(Blackhole blackhole) {
+        deck.reset(seed++);
+        for (int i = 0; i < CARDS_PER_HEADS_UP_HAND; i++) blackhole.consume(deck.drawCode());
+    }
+}
@@ -0,0 +1,99 @@
+package game;
+
+import card.Card;
+import card.CardMask;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//HandEvaluator / HandEvaluationResult 벤치마크
+//무작위 7장, 스트레이트/플러시가 겹치는 최악의 7장, 1~4장 오픈 보드 분포 사용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandEvaluatorBenchmark {
+
+    private static final int HAND_COUNT = 1024;   // 2의 거듭제곱 (인덱스 마스크용)
+
+    private final List<List<Card>> randomHands = new ArrayList<>();
+    private final List<List<Card>> straightFlushBoards = new ArrayList<>();
+    private final List<List<Card>> fiveCardHands = new ArrayList<>();
+    private final List<List<Card>> openBoards = new ArrayList<>();
+    private final long[] randomMasks = new long[HAND_COUNT];
+    private final HandEvaluationResult[] results = new HandEvaluationResult[HAND_COUNT];
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(20250607L);
+        List<Card> deck = new ArrayList<>();
+        for (int code = 0; code < 52; code++) deck.add(Card.fromCode(code));
+
+        for (int i = 0; i < HAND_COUNT; i++) {
+            Collections.shuffle(deck, random);
+            List<Card> seven = new ArrayList<>(deck.subList(0, 7));
+            randomHands.add(seven);
+            randomMasks[i] = CardMask.of(seven);
+            fiveCardHands.add(new ArrayList<>(deck.subList(7, 12)));
+            openBoards.add(new ArrayList<>(deck.subList(12, 12 + 1 + i % 4)));
+            results[i] = HandEvaluator.evaluateHand(seven);
+
+            // 같은 문양 6장 연속 + 다른 문양 1장: 스트레이트/플러시 판정이 모두 끝까지 진행되는 보드
+            Card.Suit suit = Card.Suit.values()[i % 4];
+            int low = 2 + i % 7;
+            List<Card> board = new ArrayList<>();
+            for (int r = low; r < low + 6; r++) board.add(Card.of(suit, r));
+            board.add(Card.of(Card.Suit.values()[(i + 1) % 4], low + 6));
+            Collections.shuffle(board, random);
+            straightFlushBoards.add(board);
+        }
+    }
+
+    private int nextIndex() {
+        return next++ & (HAND_COUNT - 1);
+    }
+
+    @Benchmark
+    public HandEvaluationResult evaluateHandRandom() {
+        return HandEvaluator.evaluateHand(randomHands.get(nextIndex()));
+    }
+
+    @Benchmark
+    public HandEvaluationResult evaluateHandStraightFlushBoard() {
+        return HandEvaluator.evaluateHand(straightFlushBoards.get(nextIndex()));
+    }
+
+    @Benchmark
+    public int evaluateHandStrengthMask() {
+        return SevenCardEvaluator.evaluate(randomMasks[nextIndex()]);
+    }
+
+    @Benchmark
+    public HandEvaluationResult evaluate5CardHand() {
+        return HandEvaluator.evaluate5CardHand(fiveCardHands.get(nextIndex()));
+    }
+
+    @Benchmark
+    public HandEvaluationResult evaluatePartialHand() {
+        return HandEvaluator.evaluatePartialHand(openBoards.get(nextIndex()));
+    }
+
+    @Benchmark
+    public int compareResults() {
+        int i = nextIndex();
+        return HandEvaluationResult.compare(results[i], results[(i + 1) & (HAND_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public void determiningCards(Blackhole blackhole) {
+        blackhole.consume(HandEvaluator.evaluateHand(randomHands.get(nextIndex())).getDeterminingCards());
+    }
+}
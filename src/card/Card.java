@@ -8,15 +8,39 @@ public class Card {
     //카드 문양, 랭크 (2~14) final: 재정의 불가
     private final Suit suit;
     private final int rank;
+    private final int code; //카드 코드 (0~51) = 문양 순서 * 13 + (랭크 - 2)
     
-    //생성자 함수 (문양, 랭크)
-    public Card(Suit suit, int rank) {
+    //52장 카드 인스턴스 (카드 코드 순서, 카드 하나당 객체 하나만 존재)
+    private static final Card[] CARDS = new Card[52];
+    
+    static {
+        for (Suit s : Suit.values())
+            for (int r = 2; r <= 14; r++) {
+                Card card = new Card(s, r);
+                CARDS[card.code] = card;
+            }
+    }
+    
+    //생성자 함수 (문양, 랭크) - Card.of / Card.fromCode 로만 생성
+    private Card(Suit suit, int rank) {
     	
         this.suit = suit;
         this.rank = rank;
+        this.code = suit.ordinal() * 13 + (rank - 2);
         
     }
     
+    //문양, 랭크에 해당하는 카드 인스턴스 반환
+    public static Card of(Suit suit, int rank) {
+        if (rank < 2 || rank > 14) throw new IllegalArgumentException("잘못된 카드 랭크: " + rank);
+        return CARDS[suit.ordinal() * 13 + (rank - 2)];
+    }
+    
+    //카드 코드(0~51)에 해당하는 카드 인스턴스 반환
+    public static Card fromCode(int code) {
+        return CARDS[code];
+    }
+    
     //Suit(문양) 반환 //public Suit getSuit()
     public Suit getSuit() { 
     	
@@ -30,6 +54,13 @@ public class Card {
     	return rank; 
     	
     	}
+    
+    //카드 코드(0~51) 반환
+    public int getCode() {
+    	
+    	return code;
+    	
+    	}
 
     
     @Override
@@ -0,0 +1,56 @@
+package card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//카드 집합을 long 비트마스크로 다루는 유틸리티 (비트 번호 = 카드 코드 0~51)
+//문양별로 13비트씩 배치되어 (mask >>> 문양 순서 * 13) & 0x1FFF 가 해당 문양의 랭크 마스크
+public final class CardMask {
+
+    public static final long EMPTY = 0L;
+    public static final long FULL_DECK = (1L << 52) - 1;
+
+    private CardMask() {
+    }
+
+    //카드 한 장의 비트
+    public static long of(Card card) {
+        return 1L << card.getCode();
+    }
+
+    //카드 리스트를 비트마스크로 변환
+    public static long of(List<Card> cards) {
+        long mask = EMPTY;
+        for (int i = 0; i < cards.size(); i++) mask |= 1L << cards.get(i).getCode();
+        return mask;
+    }
+
+    public static long add(long mask, Card card) {
+        return mask | (1L << card.getCode());
+    }
+
+    public static long remove(long mask, Card card) {
+        return mask & ~(1L << card.getCode());
+    }
+
+    public static boolean contains(long mask, Card card) {
+        return (mask & (1L << card.getCode())) != 0;
+    }
+
+    //카드 장수
+    public static int size(long mask) {
+        return Long.bitCount(mask);
+    }
+
+    //문양별 13비트 랭크 마스크 (비트 0 = 2, 비트 12 = A)
+    public static int suitRanks(long mask, Card.Suit suit) {
+        return (int) (mask >>> (suit.ordinal() * 13)) & 0x1FFF;
+    }
+
+    //비트마스크를 카드 리스트로 변환 (카드 코드 순서)
+    public static List<Card> toList(long mask) {
+        List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+        for (long m = mask; m != 0; m &= m - 1) cards.add(Card.fromCode(Long.numberOfTrailingZeros(m)));
+        return cards;
+    }
+}
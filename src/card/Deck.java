@@ -1,41 +1,108 @@
 package card;
 
-import java.util.*;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
 
+//덱: 카드 코드 배열(int[52])을 재사용하고 draw() 할 때마다 Fisher-Yates 한 단계만 수행
+//한 판에 쓰는 카드(헤즈업 최대 16장)만 섞으므로 리셋 비용이 거의 없음
+//난수 생성기는 시드 -> 생성기 함수로 지정 (지정하지 않으면 내장 SplitMix64를 다시 시드, 판마다 할당 없음)
 public class Deck {
 		
-    private List<Card> cards = new ArrayList<>();
+    private final int[] order = new int[52];   // 카드 코드 순서 (pos 이전은 이미 뽑힌 카드)
+    private final LongFunction<? extends RandomGenerator> seeder; // null이면 내장 SplitMix64
+    private final SplitMix64 splitMix;         // seeder가 없을 때 쓰는 난수 생성기
+    private RandomGenerator random;
+    private long handSeed;                     // reset(seed)로 시작한 판의 시드
     private int pos = 0;
     
-    //덱 리셋
+    //덱 리셋 (시드 없는 내장 SplitMix64)
     public Deck() { 
     	
-    	reset(); 
+    	this(null); 
     	
     }
+    
+    //고정 시드 덱 (같은 시드면 같은 카드 순서)
+    public Deck(long seed) {
+    	
+        this(null);
+        reset(seed);
+        
+    }
+    
+    //난수 생성기 지정: reset(seed)마다 seeder로 새로 만듦
+    //(SplittableRandom::new, seed -> RandomGeneratorFactory.of("Xoshiro256PlusPlus").create(seed) 등, null이면 내장 SplitMix64)
+    public Deck(LongFunction<? extends RandomGenerator> seeder) {
+    	
+        for (int code = 0; code < order.length; code++) order[code] = code;
+        long seed = new SplittableRandom().nextLong(); // 시드 없는 리셋용
+        this.seeder = seeder;
+        this.splitMix = seeder == null ? new SplitMix64(seed) : null;
+        this.random = seeder == null ? splitMix : seeder.apply(seed);
+        
+    }
    
-    //초기화(리셋) 로직
+    //초기화(리셋) 로직 - 남은 카드는 뽑을 때 섞으므로 위치만 되돌림 (시드 없는 판이므로 판 시드는 0)
     public void reset() {    	
     	
-        cards.clear();
-       
-        for (Card.Suit s : Card.Suit.values())        
-        	
-            for (int r = 2; r <= 14; r++)
-                cards.add(new Card(s, r));        
-       
-        Collections.shuffle(cards);        
-       
+        handSeed = 0L;
         pos = 0;
         
     }    
+    
+    //시드로 리셋: 카드 순서를 초기화하고 지정한 알고리즘을 시드로 다시 시작해 이 판을 시드만으로 재현 가능
+    public void reset(long seed) {
+    	
+        for (int code = 0; code < order.length; code++) order[code] = code;
+        if (seeder == null) {
+            splitMix.setSeed(seed);
+        } else {
+            random = seeder.apply(seed);
+        }
+        handSeed = seed;
+        pos = 0;
+        
+    }
+    
+    //시드로 리셋 후 drawn 장을 다시 뽑아 같은 위치로 복원 (스냅샷 복원용, 한 판 최대 16장)
+    public void restore(long seed, int drawn) {
+    	
+        reset(seed);
+        for (int i = 0; i < drawn; i++) drawCode();
+        
+    }
+    
+    //이번 판의 시드 (시드 없이 reset()한 판이면 0)
+    public long getHandSeed() {
+    	
+        return handSeed;
+        
+    }
  
     //덱 소진 로직, 오류 처리 로직
     public Card draw() {    	
     	
-        if (pos >= cards.size()) throw new IllegalStateException("덱 소진");        
-       
-        return cards.get(pos++);
+        return Card.fromCode(drawCode());
+        
+    }
+    
+    //카드 코드(0~51)로 한 장 뽑기 (남은 카드 중 하나를 골라 pos 위치와 교환)
+    public int drawCode() {
+    	
+        if (pos >= order.length) throw new IllegalStateException("덱 소진");        
+        int j = pos + random.nextInt(order.length - pos);
+        int code = order[j];
+        order[j] = order[pos];
+        order[pos++] = code;
+        return code;
+        
+    }
+    
+    //이번 판에서 뽑은 카드 수
+    public int getDrawnCount() {
+    	
+        return pos;
         
     }
 }
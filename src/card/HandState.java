@@ -0,0 +1,91 @@
+package card;
+
+import java.util.Arrays;
+
+//카드가 들어오고 나갈 때마다 O(1)로 갱신되는 패 상태 (랭크별 장수, 문양별 장수, 비트마스크)
+//족보 평가 시 카드 리스트를 다시 정렬/집계하지 않고 이 상태를 그대로 읽음 (최대 16장)
+public final class HandState {
+
+    public static final int MAX_CARDS = 16;
+
+    private final int[] rankCounts = new int[15];                     // 인덱스 = 랭크(2~14)
+    private final int[] suitCounts = new int[Card.Suit.values().length];
+    private long mask = CardMask.EMPTY;
+    private long rankKey = 0L;   // 랭크 오름차순 정렬, 4비트씩 (가장 낮은 자리 = 가장 낮은 랭크)
+    private int size = 0;
+
+    //카드 추가 (이미 있는 카드는 무시)
+    public void add(Card card) {
+        long bit = CardMask.of(card);
+        if ((mask & bit) != 0) return;
+        if (size >= MAX_CARDS) throw new IllegalStateException("패 상태는 최대 " + MAX_CARDS + "장까지 지원합니다.");
+        mask |= bit;
+        insertRank(card.getRank());
+        rankCounts[card.getRank()]++;
+        suitCounts[card.getSuit().ordinal()]++;
+        size++;
+    }
+
+    //카드 제거 (없는 카드는 무시)
+    public void remove(Card card) {
+        long bit = CardMask.of(card);
+        if ((mask & bit) == 0) return;
+        mask &= ~bit;
+        removeRank(card.getRank());
+        rankCounts[card.getRank()]--;
+        suitCounts[card.getSuit().ordinal()]--;
+        size--;
+    }
+
+    public void clear() {
+        Arrays.fill(rankCounts, 0);
+        Arrays.fill(suitCounts, 0);
+        mask = CardMask.EMPTY;
+        rankKey = 0L;
+        size = 0;
+    }
+
+    //해당 랭크(2~14) 카드 장수
+    public int getRankCount(int rank) {
+        return rankCounts[rank];
+    }
+
+    //해당 문양 카드 장수
+    public int getSuitCount(Card.Suit suit) {
+        return suitCounts[suit.ordinal()];
+    }
+
+    //카드 비트마스크 (CardMask)
+    public long getMask() {
+        return mask;
+    }
+
+    //정렬된 랭크 키 (랭크 오름차순 4비트씩, 장수는 size())
+    public long getRankKey() {
+        return rankKey;
+    }
+
+    //가장 높은 랭크 (카드가 없으면 0)
+    public int getHighestRank() {
+        return size == 0 ? 0 : (int) (rankKey >>> (4 * (size - 1))) & 0xF;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    //정렬 위치에 랭크 삽입 (최대 16장이므로 O(size) = 상수)
+    private void insertRank(int rank) {
+        int i = 0;
+        while (i < size && ((rankKey >>> (4 * i)) & 0xF) < rank) i++;
+        long lowMask = (1L << (4 * i)) - 1;
+        rankKey = (rankKey & lowMask) | ((long) rank << (4 * i)) | ((rankKey & ~lowMask) << 4);
+    }
+
+    private void removeRank(int rank) {
+        int i = 0;
+        while (((rankKey >>> (4 * i)) & 0xF) != rank) i++;
+        long lowMask = (1L << (4 * i)) - 1;
+        rankKey = (rankKey & lowMask) | (((rankKey >>> (4 * i)) >>> 4) << (4 * i));
+    }
+}
@@ -0,0 +1,32 @@
+package card;
+
+import java.util.random.RandomGenerator;
+
+//SplitMix64 난수 생성기: 상태 long 하나, setSeed로 다시 시드해 객체를 새로 만들지 않고 재사용
+//Deck 기본 난수 생성기, mix64는 시드 파생(GameManager 판 시드)에도 사용
+public final class SplitMix64 implements RandomGenerator {
+
+    public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L; // 2^64 / 황금비 (홀수)
+
+    private long state;
+
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    public void setSeed(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    //64비트 섞기 (Stafford variant 13), 입력이 1비트만 달라도 출력 비트의 절반 정도가 바뀜
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,320 @@
+package card;
+
+import java.util.Arrays;
+import java.util.List;
+
+//문양 동형(문양만 바꾼 카드 집합은 같은 것으로 봄) 카드 집합 <-> 연속 번호 변환기
+//카드 집합은 히든/오픈 두 부분으로 나눌 수 있음 (오픈 0장이면 나누지 않은 집합)
+//문양마다 (히든 랭크 조합, 남은 랭크 중 오픈 랭크 조합) 번호를 매기고, 문양을 (장수 구성, 번호) 내림차순으로 정렬해
+//장수 구성이 같은 문양끼리는 중복 조합 번호로 합침 -> 0 ~ size()-1 사이 빈틈 없는 번호 (역변환 가능)
+//대표 집합 = 정렬된 순서대로 문양 0~3에 다시 배치한 집합
+//번호 계산/역변환은 객체를 만들지 않음 (안쪽 반복문에서 사용 가능), 생성 후 상태가 바뀌지 않아 스레드끼리 공유 가능
+public final class SuitCanonicalizer {
+
+    public static final int MAX_CARDS = 7;
+
+    private static final int SUITS = 4;
+    private static final int RANKS = 13;
+    private static final int RANK_BITS = 0x1FFF;
+    private static final int[][] CHOOSE = new int[RANKS + 1][RANKS + 1];
+    private static final int[] COLEX = new int[1 << RANKS]; // 랭크 마스크 -> 같은 장수 조합 중 colex 번호
+
+    static {
+        for (int n = 0; n <= RANKS; n++) {
+            CHOOSE[n][0] = 1;
+            for (int k = 1; k <= n; k++) CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + CHOOSE[n - 1][k];
+        }
+        for (int ranks = 0; ranks < COLEX.length; ranks++) {
+            int index = 0, k = 1;
+            for (int m = ranks; m != 0; m &= m - 1) index += CHOOSE[Integer.numberOfTrailingZeros(m)][k++];
+            COLEX[ranks] = index;
+        }
+    }
+
+    private final int hiddenCards;
+    private final int openCards;
+    private final long[] suitSizes = new long[256]; // 문양 장수 구성(히든 << 4 | 오픈) -> 문양 하나의 랭크 배치 수
+    private final int[] configs;                     // 정렬된 네 문양의 장수 구성 (문양 0이 최상위 바이트), 오름차순
+    private final long[] offsets;                    // 장수 구성별 시작 번호
+    private final long size;
+
+    //cards장, 나누지 않은 집합
+    public SuitCanonicalizer(int cards) {
+        this(cards, 0);
+    }
+
+    public SuitCanonicalizer(int hiddenCards, int openCards) {
+        if (hiddenCards < 0 || openCards < 0 || hiddenCards + openCards < 1 || hiddenCards + openCards > MAX_CARDS) {
+            throw new IllegalArgumentException("카드 수는 1~" + MAX_CARDS + "장이어야 합니다.");
+        }
+        this.hiddenCards = hiddenCards;
+        this.openCards = openCards;
+        for (int h = 0; h <= hiddenCards; h++) {
+            for (int o = 0; o <= openCards; o++) suitSizes[h << 4 | o] = (long) CHOOSE[RANKS][h] * CHOOSE[RANKS - h][o];
+        }
+
+        // 문양 순서대로 장수 구성이 내림차순이고 합이 맞는 모든 조합
+        int[] found = new int[64];
+        int count = 0;
+        int top = hiddenCards << 4 | openCards;
+        for (int c0 = top; c0 >= 0; c0--)
+            for (int c1 = c0; c1 >= 0; c1--)
+                for (int c2 = c1; c2 >= 0; c2--)
+                    for (int c3 = c2; c3 >= 0; c3--) {
+                        if (!valid(c0) || !valid(c1) || !valid(c2) || !valid(c3)) continue;
+                        if ((c0 >> 4) + (c1 >> 4) + (c2 >> 4) + (c3 >> 4) != hiddenCards) continue;
+                        if ((c0 & 15) + (c1 & 15) + (c2 & 15) + (c3 & 15) != openCards) continue;
+                        if (count == found.length) found = Arrays.copyOf(found, count * 2);
+                        found[count++] = c0 << 24 | c1 << 16 | c2 << 8 | c3;
+                    }
+        configs = Arrays.copyOf(found, count);
+        Arrays.sort(configs);
+        offsets = new long[count];
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            offsets[i] = total;
+            total = Math.addExact(total, configSize(configs[i]));
+        }
+        size = total;
+    }
+
+    public int getHiddenCards() {
+        return hiddenCards;
+    }
+
+    public int getOpenCards() {
+        return openCards;
+    }
+
+    //번호 개수 (문양 동형 대표 집합 수)
+    public long size() {
+        return size;
+    }
+
+    //나누지 않은 집합의 번호
+    public long index(long cards) {
+        return index(cards, 0L);
+    }
+
+    public long index(List<Card> hidden, List<Card> open) {
+        return index(CardMask.of(hidden), CardMask.of(open));
+    }
+
+    //히든/오픈 집합의 번호 (장수가 생성할 때와 다르면 IllegalArgumentException)
+    public long index(long hidden, long open) {
+        long k0 = suitKey(hidden, open, 0), k1 = suitKey(hidden, open, 1);
+        long k2 = suitKey(hidden, open, 2), k3 = suitKey(hidden, open, 3);
+        // 정렬 네트워크 (내림차순)
+        long t;
+        if (k0 < k1) { t = k0; k0 = k1; k1 = t; }
+        if (k2 < k3) { t = k2; k2 = k3; k3 = t; }
+        if (k0 < k2) { t = k0; k0 = k2; k2 = t; }
+        if (k1 < k3) { t = k1; k1 = k3; k3 = t; }
+        if (k1 < k2) { t = k1; k1 = k2; k2 = t; }
+
+        int config = config(k0) << 24 | config(k1) << 16 | config(k2) << 8 | config(k3);
+        int c = Arrays.binarySearch(configs, config);
+        if (c < 0) throw new IllegalArgumentException("카드 수가 올바르지 않습니다.");
+
+        // 장수 구성이 같은 연속 문양(묶음)마다 중복 조합 번호, 묶음끼리는 혼합 진법
+        long index = 0, radix = 1;
+        for (int p = 0; p < SUITS; ) {
+            int q = p + 1;
+            while (q < SUITS && config(key(q, k0, k1, k2, k3)) == config(key(p, k0, k1, k2, k3))) q++;
+            int m = q - p;
+            long n = suitSizes[config(key(p, k0, k1, k2, k3))];
+            long rank = 0;
+            for (int j = 0; j < m; j++) {
+                long suitIndex = suitIndex(key(p + j, k0, k1, k2, k3));
+                rank += choose(suitIndex + (m - 1 - j), m - j);
+            }
+            index += radix * rank;
+            radix *= choose(n + m - 1, m);
+            p = q;
+        }
+        return offsets[c] + index;
+    }
+
+    //번호 -> 대표 집합 (rounds가 있으면 rounds[0] = 히든, rounds[1] = 오픈), 전체 집합 반환
+    public long unindex(long index, long[] rounds) {
+        if (index < 0 || index >= size) throw new IllegalArgumentException("번호 범위를 벗어났습니다: " + index);
+        int c = Arrays.binarySearch(offsets, index);
+        if (c < 0) c = -c - 2;
+        long rest = index - offsets[c];
+        int config = configs[c];
+
+        long hidden = 0L, open = 0L;
+        for (int p = 0; p < SUITS; ) {
+            int suitConfig = configAt(config, p);
+            int q = p + 1;
+            while (q < SUITS && configAt(config, q) == suitConfig) q++;
+            int m = q - p;
+            long n = suitSizes[suitConfig];
+            long groupSize = choose(n + m - 1, m);
+            long rank = rest % groupSize;
+            rest /= groupSize;
+            long limit = n + m - 1; // 중복 조합 -> 0 ~ n+m-2 중 m개 조합
+            for (int j = 0; j < m; j++) {
+                int k = m - j;
+                long a = largestBelow(rank, k, limit);
+                rank -= choose(a, k);
+                limit = a;
+                long suitIndex = a - (m - 1 - j);
+                int suit = p + j;
+                int h = suitConfig >> 4, o = suitConfig & 15;
+                int hiddenRanks = unrank(suitIndex % CHOOSE[RANKS][h], h);
+                int openRanks = expand(unrank(suitIndex / CHOOSE[RANKS][h], o), hiddenRanks);
+                hidden |= (long) hiddenRanks << (suit * RANKS);
+                open |= (long) openRanks << (suit * RANKS);
+            }
+            p = q;
+        }
+        if (rounds != null) {
+            rounds[0] = hidden;
+            rounds[1] = open;
+        }
+        return hidden | open;
+    }
+
+    //나누지 않은 집합의 대표 집합
+    public long canonicalize(long cards) {
+        return unindex(index(cards), null);
+    }
+
+    //대표 집합의 문양 -> 실제 문양 (대표 문양 p의 실제 문양 = (반환값 >>> 2p) & 3)
+    //랭크 구성이 같은 문양끼리는 어느 쪽으로 대응해도 같은 대표 집합
+    public static int suitOrder(long hidden, long open) {
+        long k0 = suitKey(hidden, open, 0), k1 = suitKey(hidden, open, 1);
+        long k2 = suitKey(hidden, open, 2), k3 = suitKey(hidden, open, 3);
+        long t;
+        if (k0 < k1) { t = k0; k0 = k1; k1 = t; }
+        if (k2 < k3) { t = k2; k2 = k3; k3 = t; }
+        if (k0 < k2) { t = k0; k0 = k2; k2 = t; }
+        if (k1 < k3) { t = k1; k1 = k3; k3 = t; }
+        if (k1 < k2) { t = k1; k1 = k2; k2 = t; }
+        return (int) (k0 & 3) | (int) (k1 & 3) << 2 | (int) (k2 & 3) << 4 | (int) (k3 & 3) << 6;
+    }
+
+    //대표 카드 코드 -> 실제 카드 코드 (order: suitOrder 반환값)
+    public static int toActual(int canonicalCode, int order) {
+        return ((order >>> (2 * (canonicalCode / RANKS))) & 3) * RANKS + canonicalCode % RANKS;
+    }
+
+    //문양별 랭크 구성이 같은 문양끼리 같은 번호 (문양 s의 번호 = (반환값 >>> 2s) & 3, 먼저 나온 문양 번호)
+    //a, b, c: 구분할 카드 집합 (예: 내 패, 상대 오픈카드, 죽은 카드)
+    public static int suitClasses(long a, long b, long c) {
+        int classes = 0;
+        for (int s = 0; s < SUITS; s++) {
+            int suitClass = s;
+            for (int t = 0; t < s; t++) {
+                if (ranks(a, t) == ranks(a, s) && ranks(b, t) == ranks(b, s) && ranks(c, t) == ranks(c, s)) {
+                    suitClass = (classes >>> (2 * t)) & 3;
+                    break;
+                }
+            }
+            classes |= suitClass << (2 * s);
+        }
+        return classes;
+    }
+
+    //정렬 키: 장수 구성 | 문양 번호 | 실제 문양
+    private static long suitKey(long hidden, long open, int suit) {
+        int h = ranks(hidden, suit), o = ranks(open, suit);
+        int hc = Integer.bitCount(h), oc = Integer.bitCount(o);
+        long suitIndex = COLEX[h] + (o == 0 ? 0L : (long) CHOOSE[RANKS][hc] * COLEX[compress(o, h)]);
+        return (long) (hc << 4 | oc) << 40 | suitIndex << 2 | suit;
+    }
+
+    private static int config(long key) {
+        return (int) (key >>> 40);
+    }
+
+    private static long suitIndex(long key) {
+        return (key >>> 2) & ((1L << 38) - 1);
+    }
+
+    private static long key(int position, long k0, long k1, long k2, long k3) {
+        return position == 0 ? k0 : position == 1 ? k1 : position == 2 ? k2 : k3;
+    }
+
+    private static int configAt(int config, int position) {
+        return (config >>> (8 * (3 - position))) & 0xFF;
+    }
+
+    private boolean valid(int config) {
+        int h = config >> 4, o = config & 15;
+        return h <= hiddenCards && o <= openCards && h + o <= RANKS;
+    }
+
+    //장수 구성 하나(정렬된 네 문양)의 번호 개수
+    private long configSize(int config) {
+        long total = 1;
+        for (int p = 0; p < SUITS; ) {
+            int q = p + 1;
+            while (q < SUITS && configAt(config, q) == configAt(config, p)) q++;
+            int m = q - p;
+            total = Math.multiplyExact(total, choose(suitSizes[configAt(config, p)] + m - 1, m));
+            p = q;
+        }
+        return total;
+    }
+
+    private static int ranks(long cards, int suit) {
+        return (int) (cards >>> (suit * RANKS)) & RANK_BITS;
+    }
+
+    //taken에 없는 랭크만 남겨 아래로 모음
+    private static int compress(int ranks, int taken) {
+        int result = 0, j = 0;
+        for (int bit = 0; bit < RANKS; bit++) {
+            if ((taken >>> bit & 1) != 0) continue;
+            if ((ranks >>> bit & 1) != 0) result |= 1 << j;
+            j++;
+        }
+        return result;
+    }
+
+    //compress의 역: taken에 없는 랭크 자리에 차례로 배치
+    private static int expand(int compressed, int taken) {
+        int result = 0, j = 0;
+        for (int bit = 0; bit < RANKS; bit++) {
+            if ((taken >>> bit & 1) != 0) continue;
+            if ((compressed >>> j & 1) != 0) result |= 1 << bit;
+            j++;
+        }
+        return result;
+    }
+
+    //k장 조합 colex 번호 -> 랭크 마스크
+    private static int unrank(long index, int k) {
+        int ranks = 0;
+        int limit = RANKS;
+        for (int j = k; j >= 1; j--) {
+            int a = limit - 1;
+            while (CHOOSE[a][j] > index) a--;
+            ranks |= 1 << a;
+            index -= CHOOSE[a][j];
+            limit = a;
+        }
+        return ranks;
+    }
+
+    //choose(a, k) <= value 인 a < limit 중 최대 (이분 탐색)
+    private static long largestBelow(long value, int k, long limit) {
+        long low = k - 1, high = limit - 1;
+        while (low < high) {
+            long mid = (low + high + 1) >>> 1;
+            if (choose(mid, k) <= value) low = mid;
+            else high = mid - 1;
+        }
+        return low;
+    }
+
+    //조합 수 (k <= 4, 곱하는 순서대로 나누어 떨어짐)
+    private static long choose(long n, int k) {
+        if (n < k) return 0;
+        long result = 1;
+        for (int i = 0; i < k; i++) result = result * (n - i) / (i + 1);
+        return result;
+    }
+}
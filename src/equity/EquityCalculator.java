@@ -0,0 +1,143 @@
+package equity;
+
+import card.Card;
+import card.CardMask;
+import game.SevenCardEvaluator;
+import metrics.EngineMetrics;
+import player.Player;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+//몬테카를로 에퀴티 계산기 (세븐 포커, 상대 오픈카드 공개 / 히든카드 미공개)
+//남은 카드(덱 - 내 패 - 상대 오픈카드 - 죽은 카드)에서 두 플레이어의 나머지 카드를 무작위로 채워 7장 족보 비교
+//표본은 fork/join으로 나눠 모든 코어에서 계산, 표본 수 또는 시간 제한 중 먼저 도달한 쪽에서 종료
+//풀 없이 만들면(callerThread) 호출한 스레드에서만 계산 (테이블이 많아 테이블마다 판단하는 경우)
+public class EquityCalculator {
+
+    private static final int FINAL_HAND_SIZE = 7;
+    private static final int LEAF_SAMPLES = 4096;       // 작업 하나가 직접 계산하는 표본 수
+    private static final int DEADLINE_CHECK_MASK = 255; // 256 표본마다 시간 제한 확인
+
+    private final ForkJoinPool pool;
+
+    public EquityCalculator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public EquityCalculator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    //호출한 스레드에서만 계산하는 계산기
+    public static EquityCalculator callerThread() {
+        return new EquityCalculator(null);
+    }
+
+    //플레이어 상태로 에퀴티 계산 (hero: 전체 패, opponent: 오픈카드만 사용, deadCards: null이면 없음)
+    //시드를 매번 새로 정하므로 같은 상태라도 결과가 조금씩 다름 (재현하려면 seed를 받는 메서드 사용)
+    public EquityResult calculate(Player hero, Player opponent, List<Card> deadCards, int maxSamples, long timeBudgetNanos) {
+        return calculate(hero, opponent, deadCards, maxSamples, timeBudgetNanos, System.nanoTime());
+    }
+
+    //플레이어 상태로 에퀴티 계산 (같은 seed면 같은 결과, 시간 제한이 있으면 표본 수는 달라질 수 있음)
+    public EquityResult calculate(Player hero, Player opponent, List<Card> deadCards, int maxSamples,
+                                  long timeBudgetNanos, long seed) {
+        long dead = deadCards != null ? CardMask.of(deadCards) : CardMask.EMPTY;
+        return calculate(hero.getHandMask(), opponent.getOpenMask(), dead, maxSamples, timeBudgetNanos, seed);
+    }
+
+    //비트마스크로 에퀴티 계산
+    //timeBudgetNanos <= 0 이면 시간 제한 없이 maxSamples 만큼 계산 (같은 seed면 같은 결과)
+    public EquityResult calculate(long heroCards, long opponentOpenCards, long deadCards,
+                                  int maxSamples, long timeBudgetNanos, long seed) {
+        if ((heroCards & opponentOpenCards) != 0 || ((heroCards | opponentOpenCards) & deadCards) != 0) {
+            throw new IllegalArgumentException("내 패, 상대 오픈카드, 죽은 카드가 겹칩니다.");
+        }
+        int heroNeed = FINAL_HAND_SIZE - CardMask.size(heroCards);
+        int opponentNeed = FINAL_HAND_SIZE - CardMask.size(opponentOpenCards);
+        long unknown = CardMask.FULL_DECK & ~(heroCards | opponentOpenCards | deadCards);
+        if (heroNeed < 0 || opponentNeed < 0 || heroNeed + opponentNeed > CardMask.size(unknown)) {
+            throw new IllegalArgumentException("카드 수가 올바르지 않습니다.");
+        }
+        if (maxSamples <= 0) return new EquityResult(0, 0, 0);
+
+        int[] unknownCodes = new int[CardMask.size(unknown)];
+        int n = 0;
+        for (long m = unknown; m != 0; m &= m - 1) unknownCodes[n++] = Long.numberOfTrailingZeros(m);
+
+        long deadline = timeBudgetNanos > 0 ? System.nanoTime() + timeBudgetNanos : Long.MAX_VALUE;
+        SampleTask task = new SampleTask(heroCards, opponentOpenCards, heroNeed, opponentNeed,
+                unknownCodes, maxSamples, deadline, new SplittableRandom(seed));
+        return pool != null ? pool.invoke(task) : task.sample();
+    }
+
+    //표본을 절반씩 나눠 병렬 계산하는 작업
+    @SuppressWarnings("serial") // 직렬화하지 않음
+    private static final class SampleTask extends RecursiveTask<EquityResult> {
+
+        private final long heroCards;
+        private final long opponentCards;
+        private final int heroNeed;
+        private final int opponentNeed;
+        private final int[] unknownCodes;
+        private final int samples;
+        private final long deadline;
+        private final SplittableRandom random;
+
+        SampleTask(long heroCards, long opponentCards, int heroNeed, int opponentNeed,
+                   int[] unknownCodes, int samples, long deadline, SplittableRandom random) {
+            this.heroCards = heroCards;
+            this.opponentCards = opponentCards;
+            this.heroNeed = heroNeed;
+            this.opponentNeed = opponentNeed;
+            this.unknownCodes = unknownCodes;
+            this.samples = samples;
+            this.deadline = deadline;
+            this.random = random;
+        }
+
+        @Override
+        protected EquityResult compute() {
+            if (samples <= LEAF_SAMPLES) return sample();
+            int half = samples / 2;
+            // 난수 생성기는 나누기 전에 분기하여 작업 순서와 무관하게 같은 표본 사용
+            SampleTask left = new SampleTask(heroCards, opponentCards, heroNeed, opponentNeed,
+                    unknownCodes, half, deadline, random.split());
+            SampleTask right = new SampleTask(heroCards, opponentCards, heroNeed, opponentNeed,
+                    unknownCodes, samples - half, deadline, random.split());
+            left.fork();
+            EquityResult rightResult = right.compute();
+            return left.join().plus(rightResult);
+        }
+
+        //부분 Fisher-Yates로 필요한 카드만 뽑아 족보 비교
+        private EquityResult sample() {
+            int[] codes = unknownCodes.clone();
+            int draw = heroNeed + opponentNeed;
+            long wins = 0, ties = 0, losses = 0;
+            int s = 0;
+            for (; s < samples; s++) {
+                if ((s & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() > deadline) break;
+                long hero = heroCards;
+                long opponent = opponentCards;
+                for (int i = 0; i < draw; i++) {
+                    int j = i + random.nextInt(codes.length - i);
+                    int code = codes[j];
+                    codes[j] = codes[i];
+                    codes[i] = code;
+                    if (i < heroNeed) hero |= 1L << code;
+                    else opponent |= 1L << code;
+                }
+                int comparison = Integer.compare(SevenCardEvaluator.evaluate(hero), SevenCardEvaluator.evaluate(opponent));
+                if (comparison > 0) wins++;
+                else if (comparison == 0) ties++;
+                else losses++;
+            }
+            EngineMetrics.evaluations(2L * s);
+            return new EquityResult(wins, ties, losses);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package equity;
+
+//승/무/패 집계 결과 (표본 수 또는 가중치 합 기준)
+public final class EquityResult {
+
+    private final long wins;
+    private final long ties;
+    private final long losses;
+
+    public EquityResult(long wins, long ties, long losses) {
+        this.wins = wins;
+        this.ties = ties;
+        this.losses = losses;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getTies() {
+        return ties;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    //전체 표본 수
+    public long getTotal() {
+        return wins + ties + losses;
+    }
+
+    public double getWinRate() {
+        return getTotal() == 0 ? 0.0 : (double) wins / getTotal();
+    }
+
+    public double getTieRate() {
+        return getTotal() == 0 ? 0.0 : (double) ties / getTotal();
+    }
+
+    //에퀴티 = (승 + 무/2) / 전체
+    public double getEquity() {
+        return getTotal() == 0 ? 0.0 : (wins + ties * 0.5) / getTotal();
+    }
+
+    //두 결과 합산
+    public EquityResult plus(EquityResult other) {
+        return new EquityResult(wins + other.wins, ties + other.ties, losses + other.losses);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("승 %d / 무 %d / 패 %d (에퀴티 %.4f)", wins, ties, losses, getEquity());
+    }
+}
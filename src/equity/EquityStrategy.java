@@ -0,0 +1,91 @@
+package equity;
+
+import card.Card;
+import card.CardMask;
+import game.BetAction;
+import game.GameView;
+import game.RuleBasedStrategy;
+import game.Strategy;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+//에퀴티 기반 봇: 내 패 vs 상대 오픈카드 몬테카를로 에퀴티로 버리기와 베팅 판단
+//마감(GameManager 판단 제한 시간, 기본 2ms)까지 표본을 모으다 마감이 되면 그때까지의 결과로 판단
+//호출한 스레드에서만 계산하므로 테이블이 많아도 판단끼리 풀을 두고 경합하지 않음 (상태 없음, 테이블끼리 공유 가능)
+//표본 시드는 테이블 판단용 난수에서 가져옴 -> 제한 시간 없이 쓰면 같은 시드로 같은 판단
+public class EquityStrategy implements Strategy {
+
+    public static final int DEFAULT_MAX_SAMPLES = 2000;
+
+    private static final double QUARTER_RAISE_EQUITY = 0.62; // 이 이상이면 쿼터 레이즈
+    private static final double HALF_RAISE_EQUITY = 0.78;    // 이 이상이면 하프 레이즈
+    private static final double BLUFF_RATE = 0.08;           // 체크할 수 있을 때 약한 패로 쿼터 레이즈하는 비율
+    private static final int DISCARD_BATCH = 128;            // 버리기 후보 하나에 한 바퀴마다 추가하는 표본 수
+
+    private final EquityCalculator calculator = EquityCalculator.callerThread();
+    private final int maxSamples;
+
+    public EquityStrategy() {
+        this(DEFAULT_MAX_SAMPLES);
+    }
+
+    //maxSamples: 판단 하나의 최대 표본 수 (버리기는 후보마다)
+    public EquityStrategy(int maxSamples) {
+        if (maxSamples <= 0) throw new IllegalArgumentException("표본 수는 1 이상이어야 합니다.");
+        this.maxSamples = maxSamples;
+    }
+
+    //후보마다 표본을 DISCARD_BATCH씩 번갈아 추가, 마감 시 그때까지 에퀴티가 가장 높은 후보
+    //(한 바퀴도 못 돌면 기본 규칙과 같은 제일 앞 카드)
+    @Override
+    public Card chooseDiscard(GameView view, long deadlineNanos) {
+        List<Card> hand = view.getHand();
+        long handMask = view.getHandMask();
+        long opponentOpen = view.getOpponentOpenMask();
+        double[] equitySum = new double[hand.size()];
+        SplittableRandom random = new SplittableRandom(view.nextSeed());
+        int best = 0;
+        for (int samples = 0; samples < maxSamples; samples += DISCARD_BATCH) {
+            for (int i = 0; i < hand.size(); i++) {
+                if (Strategy.isExpired(deadlineNanos)) return hand.get(best);
+                long discard = CardMask.of(hand.get(i));
+                equitySum[i] += calculator.calculate(handMask & ~discard, opponentOpen, discard,
+                        DISCARD_BATCH, 0L, random.nextLong()).getEquity();
+            }
+            for (int i = 1; i < hand.size(); i++) if (equitySum[i] > equitySum[best]) best = i;
+        }
+        return hand.get(best);
+    }
+
+    //오픈 카드는 내 에퀴티와 무관하므로 기본 규칙
+    @Override
+    public Card chooseOpen(GameView view, long deadlineNanos) {
+        return RuleBasedStrategy.INSTANCE.chooseOpen(view, deadlineNanos);
+    }
+
+    //에퀴티가 높으면 레이즈, 아니면 팟 오즈와 비교해 콜/폴드 (마감 전에 표본이 없으면 기본 규칙)
+    @Override
+    public BetAction chooseBet(GameView view, long deadlineNanos) {
+        if (Strategy.isExpired(deadlineNanos)) return RuleBasedStrategy.INSTANCE.chooseBet(view, deadlineNanos);
+        long dead = view.getDiscardedCard() != null ? CardMask.of(view.getDiscardedCard()) : CardMask.EMPTY;
+        EquityResult result = calculator.calculate(view.getHandMask(), view.getOpponentOpenMask(), dead,
+                maxSamples, Strategy.remainingNanos(deadlineNanos), view.nextSeed());
+        if (result.getTotal() == 0) return RuleBasedStrategy.INSTANCE.chooseBet(view, deadlineNanos);
+        double equity = result.getEquity();
+        double rand = view.nextRandom();
+        int legal = view.getLegalActions();
+
+        if (equity >= HALF_RAISE_EQUITY && BetAction.HALF_RAISE.isIn(legal)) return BetAction.HALF_RAISE;
+        if (equity >= QUARTER_RAISE_EQUITY && BetAction.QUARTER_RAISE.isIn(legal)) return BetAction.QUARTER_RAISE;
+
+        long toCall = view.getActionAmount(BetAction.CALL);
+        if (toCall == 0) {
+            if (rand < BLUFF_RATE && BetAction.QUARTER_RAISE.isIn(legal)) return BetAction.QUARTER_RAISE;
+            return BetAction.CHECK;
+        }
+        // 팟 오즈: 콜 금액 / 콜한 뒤의 팟, 에퀴티가 이보다 높으면 콜이 이득
+        double potOdds = (double) toCall / (view.getPot() + toCall);
+        return equity >= potOdds ? BetAction.CALL : BetAction.FOLD;
+    }
+}
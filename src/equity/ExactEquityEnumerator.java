@@ -0,0 +1,210 @@
+package equity;
+
+import card.Card;
+import card.CardMask;
+import card.SuitCanonicalizer;
+import game.SevenCardEvaluator;
+import metrics.EngineMetrics;
+import player.Player;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+//정확한 에퀴티 전수 계산기 (6번째/7번째 카드 이후처럼 남은 미공개 카드가 적을 때 사용)
+//남은 카드로 만들 수 있는 모든 완성 패를 나열하며, 알려진 카드 기준으로 서로 바꿔도 같은 문양끼리는
+//대표 조합 하나만 계산하고 가중치를 곱함 (문양 동형 가지치기)
+//결과는 정수 가중치 합이므로 스레드 수와 무관하게 항상 같음 -> EquityCalculator 검증 기준으로 사용
+public class ExactEquityEnumerator {
+
+    private static final int FINAL_HAND_SIZE = 7;
+    private static final int SUIT_COUNT = Card.Suit.values().length;
+    private static final int LEAF_REPRESENTATIVES = 16; // 작업 하나가 직접 계산하는 대표 조합 수
+
+    private final ForkJoinPool pool;
+
+    public ExactEquityEnumerator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ExactEquityEnumerator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    //플레이어 상태로 정확한 에퀴티 계산 (hero: 전체 패, opponent: 오픈카드만 사용, deadCards: null이면 없음)
+    public EquityResult enumerate(Player hero, Player opponent, List<Card> deadCards) {
+        long dead = deadCards != null ? CardMask.of(deadCards) : CardMask.EMPTY;
+        return enumerate(hero.getHandMask(), opponent.getOpenMask(), dead);
+    }
+
+    //비트마스크로 정확한 에퀴티 계산
+    public EquityResult enumerate(long heroCards, long opponentOpenCards, long deadCards) {
+        if ((heroCards & opponentOpenCards) != 0 || ((heroCards | opponentOpenCards) & deadCards) != 0) {
+            throw new IllegalArgumentException("내 패, 상대 오픈카드, 죽은 카드가 겹칩니다.");
+        }
+        int heroNeed = FINAL_HAND_SIZE - CardMask.size(heroCards);
+        int opponentNeed = FINAL_HAND_SIZE - CardMask.size(opponentOpenCards);
+        long unknown = CardMask.FULL_DECK & ~(heroCards | opponentOpenCards | deadCards);
+        if (heroNeed < 0 || opponentNeed < 0 || heroNeed + opponentNeed > CardMask.size(unknown)) {
+            throw new IllegalArgumentException("카드 수가 올바르지 않습니다.");
+        }
+
+        // 먼저 나눠줄 쪽(대표 조합으로 가지치기)과 나중에 전부 나열할 쪽 결정
+        boolean heroFirst = heroNeed > 0;
+        int firstNeed = heroFirst ? heroNeed : opponentNeed;
+        int secondNeed = heroFirst ? opponentNeed : 0;
+
+        // 알려진 카드(내 패, 상대 오픈, 죽은 카드)의 랭크 구성이 같은 문양끼리 같은 번호
+        int suitClasses = SuitCanonicalizer.suitClasses(heroCards, opponentOpenCards, deadCards);
+        int[] unknownCodes = codesOf(unknown);
+
+        // 대표 조합과 가중치 수집
+        long[] representatives = new long[16];
+        long[] weights = new long[16];
+        int count = 0;
+        int[] index = new int[firstNeed];
+        for (int i = 0; i < firstNeed; i++) index[i] = i;
+        do {
+            long combo = 0L;
+            for (int i = 0; i < firstNeed; i++) combo |= 1L << unknownCodes[index[i]];
+            long weight = orbitWeight(combo, suitClasses);
+            if (weight > 0) {
+                if (count == representatives.length) {
+                    representatives = Arrays.copyOf(representatives, count * 2);
+                    weights = Arrays.copyOf(weights, count * 2);
+                }
+                representatives[count] = combo;
+                weights[count] = weight;
+                count++;
+            }
+        } while (nextCombination(index, unknownCodes.length));
+
+        EnumerationTask task = new EnumerationTask(heroCards, opponentOpenCards, unknown, heroFirst, secondNeed,
+                representatives, weights, 0, count);
+        long[] totals = pool.invoke(task);
+        return new EquityResult(totals[0], totals[1], totals[2]);
+    }
+
+    //조합이 대표(같은 그룹 문양끼리 랭크 마스크가 문양 순서대로 내림차순)이면 동형 조합 수, 아니면 0
+    private static long orbitWeight(long combo, int suitClasses) {
+        long weight = 1;
+        for (int c = 0; c < SUIT_COUNT; c++) {
+            int members = 0, duplicates = 1, run = 1, previous = -1;
+            for (int s = 0; s < SUIT_COUNT; s++) {
+                if (((suitClasses >>> (2 * s)) & 3) != c) continue;
+                int pattern = (int) (combo >>> (s * 13)) & 0x1FFF;
+                if (previous >= 0) {
+                    if (pattern > previous) return 0;
+                    run = pattern == previous ? run + 1 : 1;
+                    duplicates *= run;
+                }
+                previous = pattern;
+                members++;
+            }
+            weight *= factorial(members) / duplicates;
+        }
+        return weight;
+    }
+
+    private static long factorial(int n) {
+        long result = 1;
+        for (int i = 2; i <= n; i++) result *= i;
+        return result;
+    }
+
+    private static int[] codesOf(long mask) {
+        int[] codes = new int[CardMask.size(mask)];
+        int n = 0;
+        for (long m = mask; m != 0; m &= m - 1) codes[n++] = Long.numberOfTrailingZeros(m);
+        return codes;
+    }
+
+    //사전순 다음 조합으로 이동 (마지막이면 false)
+    private static boolean nextCombination(int[] index, int n) {
+        int k = index.length;
+        int i = k - 1;
+        while (i >= 0 && index[i] == n - k + i) i--;
+        if (i < 0) return false;
+        index[i]++;
+        for (int j = i + 1; j < k; j++) index[j] = index[j - 1] + 1;
+        return true;
+    }
+
+    //대표 조합 범위를 나눠 병렬 계산하는 작업 (결과: 승, 무, 패 가중치 합)
+    @SuppressWarnings("serial") // 직렬화하지 않음
+    private static final class EnumerationTask extends RecursiveTask<long[]> {
+
+        private final long heroCards;
+        private final long opponentCards;
+        private final long unknown;
+        private final boolean heroFirst;
+        private final int secondNeed;
+        private final long[] representatives;
+        private final long[] weights;
+        private final int from;
+        private final int to;
+
+        EnumerationTask(long heroCards, long opponentCards, long unknown, boolean heroFirst, int secondNeed,
+                        long[] representatives, long[] weights, int from, int to) {
+            this.heroCards = heroCards;
+            this.opponentCards = opponentCards;
+            this.unknown = unknown;
+            this.heroFirst = heroFirst;
+            this.secondNeed = secondNeed;
+            this.representatives = representatives;
+            this.weights = weights;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= LEAF_REPRESENTATIVES) return enumerateRange();
+            int middle = (from + to) >>> 1;
+            EnumerationTask left = new EnumerationTask(heroCards, opponentCards, unknown, heroFirst, secondNeed,
+                    representatives, weights, from, middle);
+            EnumerationTask right = new EnumerationTask(heroCards, opponentCards, unknown, heroFirst, secondNeed,
+                    representatives, weights, middle, to);
+            left.fork();
+            long[] rightTotals = right.compute();
+            long[] totals = left.join();
+            for (int i = 0; i < totals.length; i++) totals[i] += rightTotals[i];
+            return totals;
+        }
+
+        private long[] enumerateRange() {
+            long[] totals = new long[3];
+            long evaluations = 0;
+            int[] index = new int[secondNeed];
+            for (int r = from; r < to; r++) {
+                long first = representatives[r];
+                long weight = weights[r];
+                if (!heroFirst) {
+                    // 내 패는 이미 7장: 상대 조합만 나열
+                    record(totals, SevenCardEvaluator.evaluate(heroCards), SevenCardEvaluator.evaluate(opponentCards | first), weight);
+                    evaluations += 2;
+                    continue;
+                }
+                int heroStrength = SevenCardEvaluator.evaluate(heroCards | first);
+                evaluations++;
+                int[] rest = codesOf(unknown & ~first);
+                for (int i = 0; i < secondNeed; i++) index[i] = i;
+                do {
+                    long opponent = opponentCards;
+                    for (int i = 0; i < secondNeed; i++) opponent |= 1L << rest[index[i]];
+                    record(totals, heroStrength, SevenCardEvaluator.evaluate(opponent), weight);
+                    evaluations++;
+                } while (nextCombination(index, rest.length));
+            }
+            EngineMetrics.evaluations(evaluations);
+            return totals;
+        }
+
+        private static void record(long[] totals, int heroStrength, int opponentStrength, long weight) {
+            if (heroStrength > opponentStrength) totals[0] += weight;
+            else if (heroStrength == opponentStrength) totals[1] += weight;
+            else totals[2] += weight;
+        }
+    }
+}
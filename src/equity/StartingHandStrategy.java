@@ -0,0 +1,46 @@
+package equity;
+
+import card.Card;
+import game.BetAction;
+import game.GameView;
+import game.Strategy;
+
+//처음 4장의 버리기/오픈을 StartingHandTable 조회로 판단하고 베팅은 다른 전략에 맡기는 봇 (조회는 O(1), 마감과 무관)
+//표에 없는 상황(4장이 아닌 패, 표와 다른 카드를 버린 뒤의 오픈)은 맡긴 전략이 판단
+public class StartingHandStrategy implements Strategy {
+
+    private final StartingHandTable table;
+    private final Strategy delegate;
+
+    public StartingHandStrategy(StartingHandTable table, Strategy delegate) {
+        this.table = table;
+        this.delegate = delegate;
+    }
+
+    public StartingHandTable getTable() {
+        return table;
+    }
+
+    @Override
+    public Card chooseDiscard(GameView view, long deadlineNanos) {
+        long hand = view.getHandMask();
+        if (Long.bitCount(hand) != StartingHandTable.HAND_SIZE) return delegate.chooseDiscard(view, deadlineNanos);
+        return table.discardFor(hand);
+    }
+
+    @Override
+    public Card chooseOpen(GameView view, long deadlineNanos) {
+        long hand = view.getHandMask();
+        Card discarded = view.getDiscardedCard();
+        if (discarded == null || Long.bitCount(hand) != StartingHandTable.HAND_SIZE - 1) {
+            return delegate.chooseOpen(view, deadlineNanos);
+        }
+        Card open = table.openFor(hand, discarded);
+        return open != null ? open : delegate.chooseOpen(view, deadlineNanos);
+    }
+
+    @Override
+    public BetAction chooseBet(GameView view, long deadlineNanos) {
+        return delegate.chooseBet(view, deadlineNanos);
+    }
+}
@@ -0,0 +1,103 @@
+package equity;
+
+import card.Card;
+import card.SuitCanonicalizer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+//처음 받은 4장(SELECTION 단계)의 버릴 카드 / 오픈 카드 표 (StartingHandTableGenerator로 미리 계산)
+//문양만 바꾼 패는 같은 칸 (SuitCanonicalizer 번호, 4장 조합 270725개 -> 16432칸), 칸 번호 계산은 O(1)
+//칸마다 대표 패 기준 버릴/오픈 카드 코드와 에퀴티 저장, 조회 시 대표 문양을 실제 문양으로 되돌림
+public final class StartingHandTable {
+
+    public static final int HAND_SIZE = 4;
+
+    private static final SuitCanonicalizer CANONICALIZER = new SuitCanonicalizer(HAND_SIZE);
+    private static final int CLASSES = (int) CANONICALIZER.size();
+
+    //파일: 헤더(매직, 버전, 칸 수) + 칸마다 버릴 카드 코드, 오픈 카드 코드, 에퀴티(0~65535) (리틀 엔디언)
+    private static final int MAGIC = 0x48545353; // "SSTH"
+    private static final short VERSION = 2;      // 2: SuitCanonicalizer 칸 순서
+    private static final int HEADER_SIZE = 12;
+    private static final int ENTRY_SIZE = 4;
+
+    private final byte[] discards = new byte[CLASSES];
+    private final byte[] opens = new byte[CLASSES];
+    private final char[] equities = new char[CLASSES];
+
+    StartingHandTable() {
+    }
+
+    //문양 동형으로 줄인 칸 수
+    public static int classCount() {
+        return CLASSES;
+    }
+
+    static long representative(int handClass) {
+        return CANONICALIZER.unindex(handClass, null);
+    }
+
+    //패의 칸 번호 (4장이 아니면 IllegalArgumentException)
+    public static int classOf(long hand) {
+        return (int) CANONICALIZER.index(hand);
+    }
+
+    //4장 패에서 버릴 카드
+    public Card discardFor(long hand) {
+        int handClass = classOf(hand);
+        return Card.fromCode(SuitCanonicalizer.toActual(discards[handClass], SuitCanonicalizer.suitOrder(hand, 0L)));
+    }
+
+    //버린 뒤 남은 3장에서 오픈할 카드 (표는 버리기 전 4장 기준)
+    public Card openFor(long hand, Card discarded) {
+        long full = hand | (1L << discarded.getCode());
+        int handClass = classOf(full);
+        Card open = Card.fromCode(SuitCanonicalizer.toActual(opens[handClass], SuitCanonicalizer.suitOrder(full, 0L)));
+        // 표와 다른 카드를 버렸으면 남은 카드에 없을 수 있음
+        return (hand & (1L << open.getCode())) != 0 ? open : null;
+    }
+
+    //표의 선택대로 버린 남은 3장의 에퀴티 (무작위 상대 기준)
+    public double equityOf(long hand) {
+        return equities[classOf(hand)] / 65535.0;
+    }
+
+    void set(int handClass, int discardCode, int openCode, double equity) {
+        discards[handClass] = (byte) discardCode;
+        opens[handClass] = (byte) openCode;
+        equities[handClass] = (char) Math.round(Math.max(0.0, Math.min(1.0, equity)) * 65535.0);
+    }
+
+    //임시 파일에 쓴 뒤 교체
+    public void save(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + classCount() * ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) HAND_SIZE).putInt(classCount());
+        for (int i = 0; i < classCount(); i++) {
+            buffer.put(discards[i]).put(opens[i]).putChar(equities[i]);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, buffer.array());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    //표 파일 읽기 (형식이나 칸 수가 다르면 IOException)
+    public static StartingHandTable load(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() != HEADER_SIZE + classCount() * ENTRY_SIZE || buffer.getInt() != MAGIC
+                || buffer.getShort() != VERSION || buffer.getShort() != HAND_SIZE || buffer.getInt() != classCount()) {
+            throw new IOException("시작 패 표 형식이 아닙니다: " + file);
+        }
+        StartingHandTable table = new StartingHandTable();
+        for (int i = 0; i < classCount(); i++) {
+            table.discards[i] = buffer.get();
+            table.opens[i] = buffer.get();
+            table.equities[i] = buffer.getChar();
+        }
+        return table;
+    }
+}
@@ -0,0 +1,126 @@
+package equity;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//StartingHandTable 생성기: 문양 동형 대표 4장 패마다 (버릴 카드, 오픈 카드) 12가지 선택을 점수화해 최고 선택 저장
+//점수 = 버리고 남은 3장의 무작위 상대 대비 몬테카를로 에퀴티 - 오픈 카드 노출 감점
+//노출 감점: 오픈 카드가 남은 카드와 페어/트립스를 이루면 큰 감점, 세 장 같은 문양이면 작은 감점, 랭크가 높을수록 아주 작은 감점
+//(상대는 무작위 패라 오픈 카드는 에퀴티를 바꾸지 않음 -> 에퀴티가 거의 같은 버리기 후보 사이에서만 노출이 선택을 바꿈)
+//대표 패마다 시드가 정해져 있어 스레드 수와 무관하게 같은 표
+//사용법: java equity.StartingHandTableGenerator <표 파일> [버리기 후보당 표본 수] [시드]
+public class StartingHandTableGenerator {
+
+    public static final int DEFAULT_SAMPLES = 4000;
+
+    private static final int LEAF_CLASSES = 64;        // 작업 하나가 직접 계산하는 대표 패 수
+    private static final double PAIR_EXPOSURE = 0.004;  // 페어를 드러내는 오픈 감점 (남은 카드 한 장당)
+    private static final double SUIT_EXPOSURE = 0.002;  // 플러시 드로우를 드러내는 오픈 감점
+    private static final double RANK_EXPOSURE = 0.0001; // 높은 카드를 드러내는 오픈 감점 (랭크당)
+
+    private final ForkJoinPool pool;
+    private final int samples;
+
+    public StartingHandTableGenerator(ForkJoinPool pool, int samples) {
+        if (samples <= 0) throw new IllegalArgumentException("표본 수는 1 이상이어야 합니다.");
+        this.pool = pool;
+        this.samples = samples;
+    }
+
+    public StartingHandTable generate(long seed) {
+        StartingHandTable table = new StartingHandTable();
+        pool.invoke(new ClassTask(table, samples, seed, 0, StartingHandTable.classCount()));
+        return table;
+    }
+
+    //대표 패 구간을 절반씩 나눠 병렬 계산하는 작업
+    @SuppressWarnings("serial") // 직렬화하지 않음
+    private static final class ClassTask extends RecursiveAction {
+
+        private final StartingHandTable table;
+        private final int samples;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        ClassTask(StartingHandTable table, int samples, long seed, int from, int to) {
+            this.table = table;
+            this.samples = samples;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_CLASSES) {
+                EquityCalculator calculator = EquityCalculator.callerThread();
+                for (int handClass = from; handClass < to; handClass++) {
+                    score(table, calculator, handClass, samples, new SplittableRandom(seed + handClass));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ClassTask(table, samples, seed, from, mid), new ClassTask(table, samples, seed, mid, to));
+        }
+    }
+
+    //대표 패 하나의 12가지 선택 점수화
+    private static void score(StartingHandTable table, EquityCalculator calculator, int handClass,
+                              int samples, SplittableRandom random) {
+        long hand = StartingHandTable.representative(handClass);
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestDiscard = -1, bestOpen = -1;
+        double bestEquity = 0;
+        for (long d = hand; d != 0; d &= d - 1) {
+            long discard = d & -d;
+            long kept = hand & ~discard;
+            double equity = calculator.calculate(kept, 0L, discard, samples, 0L, random.nextLong()).getEquity();
+            for (long o = kept; o != 0; o &= o - 1) {
+                int open = Long.numberOfTrailingZeros(o);
+                double score = equity - exposure(kept, open);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestDiscard = Long.numberOfTrailingZeros(discard);
+                    bestOpen = open;
+                    bestEquity = equity;
+                }
+            }
+        }
+        table.set(handClass, bestDiscard, bestOpen, bestEquity);
+    }
+
+    //오픈 카드가 상대에게 드러내는 정보 감점
+    private static double exposure(long kept, int open) {
+        int rank = open % 13;
+        int suit = open / 13;
+        int sameRank = 0, sameSuit = 0;
+        for (long m = kept & ~(1L << open); m != 0; m &= m - 1) {
+            int code = Long.numberOfTrailingZeros(m);
+            if (code % 13 == rank) sameRank++;
+            if (code / 13 == suit) sameSuit++;
+        }
+        return sameRank * PAIR_EXPOSURE + (sameSuit == 2 ? SUIT_EXPOSURE : 0) + (rank + 2) * RANK_EXPOSURE;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("사용법: java equity.StartingHandTableGenerator <표 파일> [버리기 후보당 표본 수] [시드]");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        int samples = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SAMPLES;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+
+        long start = System.nanoTime();
+        StartingHandTable table = new StartingHandTableGenerator(ForkJoinPool.commonPool(), samples).generate(seed);
+        table.save(file);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("대표 패 %d개 (전체 4장 조합 270725개), 후보당 표본 %d, %.1f초%n",
+                StartingHandTable.classCount(), samples, seconds);
+    }
+}
@@ -1,8 +1,11 @@
 package exception;
 
+import metrics.EngineMetrics;
+
 //Bet action 에러 처리 로직
 public class InvalidBetException extends RuntimeException {
     public InvalidBetException(String message) {
     	super(message); 
+    	EngineMetrics.invalidBet(); // 베팅 규칙 위반 빈도 집계
     	}
 }
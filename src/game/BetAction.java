@@ -0,0 +1,30 @@
+package game;
+
+//베팅 행동 종류 (GUI 버튼, 테이블 호스트, 기록기에서 공통 사용)
+public enum BetAction {
+    FOLD("폴드"),
+    CHECK("체크"),
+    CALL("콜"),
+    QUARTER_RAISE("쿼터 레이즈"),
+    HALF_RAISE("하프 레이즈");
+
+    private final String displayName;
+
+    BetAction(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    //BettingSystem.legalActions 비트마스크에서 이 행동의 비트
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    //비트마스크에 이 행동이 포함되어 있는지
+    public boolean isIn(int mask) {
+        return (mask & bit()) != 0;
+    }
+}
@@ -1,52 +1,58 @@
 package game;
 
+import player.BettingLedger;
 import player.Player;
-import card.Card;
 import exception.InvalidBetException;
-import java.util.*;
+import metrics.EngineMetrics;
+import java.util.Arrays;
 
 public class BettingSystem {
 	//필드
     private GameManager manager;  
-    private int pot = 0;
-    private int currentBet = 0;
+    //팟, 라운드 기준 베팅액, 좌석별 코인/베팅액/레이즈 횟수 (두 플레이어와 공유)
+    private final BettingLedger ledger;
     private int checkCount = 0; //private 로 수정했음.(현재 문제 없음)
     
-    //플레이어 레이즈 횟수 저장
-    private Map<Player, Integer> playerRaiseCount = new HashMap<>(); 
-    
     //Check 횟수 조회
     public int getCheckCount() {    	
     	return checkCount;    	
     }
     
     //현재 라운드 Bet 조회
-    public int getCurrentBet() {    	
-    	return currentBet;
+    public long getCurrentBet() {    	
+    	return ledger.getCurrentBet();
     }
     
     //현재 pot 값 조회
-    public int getPot() { 
+    public long getPot() { 
     	
-    	return pot;
+    	return ledger.getPot();
+    }
+    
+    //베팅 장부 조회
+    public BettingLedger getLedger() {
+    	return ledger;
     }
     
     //GameManager를 BettingSystem과 연결
     public BettingSystem(GameManager manager) {    	
-    	this.manager = manager;    	
+    	this(manager, new BettingLedger());
     }
     
-    //고정 참가비
-    public void collectAnte(Player player, int anteAmount) {
+    //GameManager, 플레이어와 공유하는 장부 지정
+    public BettingSystem(GameManager manager, BettingLedger ledger) {
+    	this.manager = manager;
+    	this.ledger = ledger;
+    }
+    
+    //고정 참가비 (코인 부족 시 낸 만큼만 팟에 들어감)
+    public void collectAnte(Player player, long anteAmount) {
         player.payAnte(anteAmount); 
-        this.pot += anteAmount;        
     }
 
     //라운드 리셋
     public void resetRound() {    	
-        currentBet = 0;
-        
-        playerRaiseCount.clear();
+        ledger.resetRound();
         if (manager != null && manager.getUser() != null) manager.getUser().resetBet();
         if (manager != null && manager.getComputer() != null) manager.getComputer().resetBet();
         
@@ -58,13 +64,15 @@ public class BettingSystem {
     
     //Pot 0으로 리셋
     public void resetPot() {    
-    	pot = 0;   	
+    	ledger.clearPot();   	
     }
 
     //check 로직
     public void check(Player player) throws InvalidBetException {
+    	 long currentBet = ledger.getCurrentBet();
     	 if (isAllIn(player) && player.getCurrentBet() < currentBet) {
              player.setActedThisRound(true);             
+             notifyAction(player, BetAction.CHECK, 0);
              return;
         }       
     	 if (player.getCurrentBet() < currentBet) {
@@ -72,11 +80,13 @@ public class BettingSystem {
          }       
         checkCount++;
         player.setActedThisRound(true);
+        notifyAction(player, BetAction.CHECK, 0);
     }    
     
     //call 로직
     public void call(Player player) throws InvalidBetException {
-        int amountToCall = currentBet - player.getCurrentBet();
+        long currentBet = ledger.getCurrentBet();
+        long amountToCall = currentBet - player.getCurrentBet();
         if (amountToCall <= 0) { 
             if (currentBet == 0) {
                 throw new InvalidBetException("아무도 베팅하지 않아 콜할 수 없습니다. 체크 또는 베팅하세요.");
@@ -85,62 +95,121 @@ public class BettingSystem {
             }
         }
         // safeBet에서 코인 부족 시 올인 처리
-        safeBet(player, amountToCall);
+        long paid = safeBet(player, amountToCall);
         player.setActedThisRound(true);
+        notifyAction(player, BetAction.CALL, paid);
     }    
     
     // fold 로직
     public void fold(Player player) {
         player.fold();
         player.setActedThisRound(true);
+        notifyAction(player, BetAction.FOLD, 0);
     }
     
+    //베팅 행동 종류로 처리 (규칙 위반 시 InvalidBetException)
+    public void act(Player player, BetAction action) throws InvalidBetException {
+        switch (action) {
+            case FOLD: fold(player); break;
+            case CHECK: check(player); break;
+            case CALL: call(player); break;
+            case QUARTER_RAISE: quarterRaise(player); break;
+            case HALF_RAISE: halfRaise(player); break;
+            default: throw new IllegalArgumentException("알 수 없는 베팅 행동: " + action);
+        }
+    }
+
+    //현재 가능한 베팅 행동 비트마스크 (BetAction.bit()), act와 같은 규칙을 예외 없이 판정
+    //amounts가 null이 아니면 가능한 행동마다 낼 코인을 amounts[BetAction.ordinal()]에 기록 (불가능한 행동은 0)
+    public int legalActions(Player player, long[] amounts) {
+        if (amounts != null) Arrays.fill(amounts, 0L);
+        if (player.isFolded()) return 0;
+        int seat = player.getSeat();
+        long coin = player.getCoin();
+        long currentBet = ledger.getCurrentBet();
+        long amountToCall = ledger.getAmountToCall(seat);
+
+        int mask = BetAction.FOLD.bit();
+        if (amountToCall == 0 || coin <= 0) mask |= BetAction.CHECK.bit(); // 맞췄거나 올인
+        if (amountToCall > 0) {
+            mask |= BetAction.CALL.bit();
+            if (amounts != null) amounts[BetAction.CALL.ordinal()] = Math.min(amountToCall, coin);
+        }
+        long pot = ledger.getPot();
+        if ((pot > 0 || currentBet != 0) && canRaise(player) && coin > amountToCall) {
+            mask |= raiseBit(BetAction.QUARTER_RAISE, amountToCall + Math.max(1, pot / 4), coin, amounts);
+            mask |= raiseBit(BetAction.HALF_RAISE, amountToCall + Math.max(1, pot / 2), coin, amounts);
+        }
+        return mask;
+    }
+
+    //레이즈에 필요한 코인이 있으면 비트 반환
+    private static int raiseBit(BetAction action, long total, long coin, long[] amounts) {
+        if (coin < total) return 0;
+        if (amounts != null) amounts[action.ordinal()] = total;
+        return action.bit();
+    }
+
+    //가능한 행동이면 처리하고 true, 아니면 아무것도 하지 않고 false (예외 없음)
+    public boolean tryAct(Player player, BetAction action) {
+        if (!action.isIn(legalActions(player, null))) return false;
+        act(player, action);
+        return true;
+    }
+
     //쿼터레이즈 로직
     public void quarterRaise(Player player) throws InvalidBetException {
-        if (pot <= 0 && currentBet == 0) throw new InvalidBetException("초기 팟과 베팅이 없어 팟 기반 레이즈를 할 수 없습니다. 먼저 베팅하세요.");        
-        int raiseAmount = pot / 4;
-        performRaise(player, Math.max(1, raiseAmount));
+        long pot = ledger.getPot();
+        if (pot <= 0 && ledger.getCurrentBet() == 0) throw new InvalidBetException("초기 팟과 베팅이 없어 팟 기반 레이즈를 할 수 없습니다. 먼저 베팅하세요.");
+        long raiseAmount = pot / 4;
+        long paid = performRaise(player, Math.max(1, raiseAmount));
+        notifyAction(player, BetAction.QUARTER_RAISE, paid);
     }
     
     //하프 레이즈 로직
     public void halfRaise(Player player) throws InvalidBetException {
-        if (pot <= 0 && currentBet == 0) throw new InvalidBetException("초기 팟과 베팅이 없어 팟 기반 레이즈를 할 수 없습니다. 먼저 베팅하세요.");
-        int raiseAmount = pot / 2;
-        performRaise(player, Math.max(1, raiseAmount));
+        long pot = ledger.getPot();
+        if (pot <= 0 && ledger.getCurrentBet() == 0) throw new InvalidBetException("초기 팟과 베팅이 없어 팟 기반 레이즈를 할 수 없습니다. 먼저 베팅하세요.");
+        long raiseAmount = pot / 2;
+        long paid = performRaise(player, Math.max(1, raiseAmount));
+        notifyAction(player, BetAction.HALF_RAISE, paid);
     }
     
-    //레이즈 액션 로직
-    private void performRaise(Player player, int raiseAmount) throws InvalidBetException {
+    //베팅 행동 알림 (기록기 등), amount: 이번 행동으로 낸 코인
+    private void notifyAction(Player player, BetAction action, long amount) {
+        if (manager != null) manager.notifyBettingAction(player, action, amount);
+    }
+
+    //레이즈 액션 로직 (낸 코인 반환)
+    private long performRaise(Player player, long raiseAmount) throws InvalidBetException {
         validateRaisePossible(player); // 레이즈 가능 여부 검증 (횟수, 코인)
         
         if (raiseAmount <= 0) {
             throw new InvalidBetException("레이즈 금액은 0보다 커야 합니다.");
         }
 
-        int amountToCall = currentBet - player.getCurrentBet();
-        //레이즈 0 이하 나올 시 0처리
-        if (amountToCall < 0) amountToCall = 0; // 이미 더 많이 냈을 경우는 없지만 방어적으로
+        long amountToCall = ledger.getAmountToCall(player.getSeat()); // 이미 더 많이 냈으면 0
 
-        int totalBetThisAction = amountToCall + raiseAmount; // 이번 액션에 내는 총 금액
+        long totalBetThisAction = Math.addExact(amountToCall, raiseAmount); // 이번 액션에 내는 총 금액
 
         if (player.getCoin() < totalBetThisAction) {
             throw new InvalidBetException("코인이 부족하여 해당 금액(" + totalBetThisAction + ")으로 레이즈할 수 없습니다. (현재 코인: " + player.getCoin() + ")");
         }
 
-        safeBet(player, totalBetThisAction); // 콜 + 레이즈 금액만큼 베팅
-        currentBet += raiseAmount;           // 라운드의 기준 베팅액을 새 레이즈 금액만큼 올림
-        playerRaiseCount.put(player, playerRaiseCount.getOrDefault(player, 0) + 1);
+        long paid = safeBet(player, totalBetThisAction); // 콜 + 레이즈 금액만큼 베팅
+        ledger.raise(player.getSeat(), raiseAmount);      // 라운드의 기준 베팅액을 새 레이즈 금액만큼 올리고 횟수 기록
         player.setActedThisRound(true);
+        return paid;
     }    
     
     //레이즈 제한 로직
     private void validateRaisePossible(Player player) throws InvalidBetException {
     	
-        if (playerRaiseCount.getOrDefault(player, 0) >= 1) { // 한 라운드에 레이즈는 한 번으로 제한
+        if (!canRaise(player)) { // 한 라운드에 레이즈는 한 번으로 제한
             throw new InvalidBetException("한 라운드에 한 번만 레이즈할 수 있습니다.");
         }
         
-        int amountToCall = Math.max(0, currentBet - player.getCurrentBet());
+        long amountToCall = ledger.getAmountToCall(player.getSeat());
         
         if (player.getCoin() <= amountToCall) { // 콜할 금액 이하거나, 콜할 금액도 없는 경우 (이미 올인 포함)
         	
@@ -155,19 +224,25 @@ public class BettingSystem {
         }
     }
     
+    //이번 라운드 레이즈 횟수
+    public int getRaiseCount(Player player) {
+        return ledger.getRaises(player.getSeat());
+    }
+
+    //스냅샷 복원 (플레이어 좌석 상태를 먼저 복원한 뒤 호출)
+    void restore(long pot, long currentBet, int checkCount, int userRaises, int computerRaises) {
+        ledger.restoreRound(pot, currentBet, userRaises, computerRaises);
+        this.checkCount = checkCount;
+    }
+
     //레이즈 수행 여부 로직
     public boolean canRaise(Player player) {
-        return playerRaiseCount.getOrDefault(player, 0) < 1;
+        return ledger.getRaises(player.getSeat()) < 1;
     }
     
-    //레이즈 대응 베팅, 코인 부족 시 All in 처리 로직
-    private void safeBet(Player player, int amount) {
-        if (amount >= player.getCoin()) {
-            int allIn = player.getCoin();
-            player.bet(allIn); pot += allIn;
-        } else {
-            player.bet(amount); pot += amount;
-        }
+    //레이즈 대응 베팅, 코인 부족 시 All in 처리 로직 (장부에서 보유 코인까지만 팟으로 이동), 낸 코인 반환
+    private long safeBet(Player player, long amount) {
+        return player.bet(amount);
     }    
     
     //올인 판별 로직
@@ -177,20 +252,29 @@ public class BettingSystem {
     
     //승자 pot 지급 로직
     public void awardPot(Player winner) { 
-    	if (pot > 0) { 
-    		winner.receivePot(pot); 
-    		pot = 0; 
+    	if (ledger.getPot() > 0) { 
+    		winner.receivePot(); 
     		} 
     	}
     
     //컴퓨터 자동 행동 로직
     public String autoAction(Player player) {
+        long start = EngineMetrics.start();
+        try {
+            return decideAutoAction(player);
+        } finally {
+            EngineMetrics.recordAutoAction(start);
+        }
+    }
+
+    //자동 행동 판단 (autoAction에서 처리 시간 측정)
+    private String decideAutoAction(Player player) {
 
-        int callAmount = getCurrentBet() - player.getCurrentBet();
+        long callAmount = getCurrentBet() - player.getCurrentBet();
         
         // 올인 상태 (보유 코인 < 베팅 코인)
         if (player.getCoin() <= callAmount && callAmount > 0) {
-            call(player); // 자동으로 올인 콜
+            autoAct(player, BetAction.CALL); // 자동으로 올인 콜
             player.setActedThisRound(true);
             return "올인 콜";
         }
@@ -201,112 +285,34 @@ public class BettingSystem {
              return "올인 상태 (액션 없음)";
         }
         
-        //플레이어 오픈카드 리스트 호출
-        List<Card> playerCards = player.getOpenCards();
-        List<Card> opponentCards = manager.getOpponent(player).getOpenCards();
-        //오픈 카드 중 최고 랭크 오픈 카드로 설정 로직
-        int highestOpen = playerCards.isEmpty() ? 0 : playerCards.stream().mapToInt(Card::getRank).max().orElse(0);
-        int opponentHighest = opponentCards.isEmpty() ? 0 : opponentCards.stream().mapToInt(Card::getRank).max().orElse(0);
-        //패 인식 후 베팅 방향 결정
-        boolean isStrong = highestOpen >= 10;
-        boolean isBehind = highestOpen < opponentHighest;
-        double rand = Math.random();
-        String decidedAction = "행동 오류. 코드 확인 바람.";        
-        
-        //컴퓨터 선 턴일 경우 처리 로직
-        if (getCurrentBet() == 0) {
-        	//패가 강하다고 인식할 경우 처리 로직
-            if (isStrong) {
-            	//75% 확률로 레이즈 시도
-                if (rand < 0.75) {
-                    decidedAction = safeRaise(player, true);
-                } else {
-                    check(player); decidedAction = "체크";
-                }
-              //패가 약하다고 인식할 경우 처리 로직
-            } else {
-                if (isBehind && rand < 0.3) {
-                    decidedAction = safeRaise(player, false);
-                } else if (rand < 0.85) {
-                    check(player); decidedAction = "체크";
-                } else {
-                    decidedAction = safeRaise(player, false);
-                }
-            }
-            
-         //User 가 베팅한 상황 처리 로직
-        } else {
-        	//레이즈 할 수 없을 경우 처리 로직
-            if (!canRaise(player)) {
-                if (isStrong || (!isBehind && rand < 0.8) || (isBehind && rand < 0.3) ) {
-                    call(player); decidedAction = "콜";
-                } else {
-                    fold(player); decidedAction = "폴드";
-                }
-              // 레이즈가 가능할 경우 처리 로직
-            } else {
-                if (isStrong && !isBehind) {
-                    if (rand < 0.5) { decidedAction = safeRaise(player, true); }
-                    else { call(player); decidedAction = "콜"; }
-                  // 덱이 강하다고 판단 될 경우 로직
-                } else if (isStrong) { 
-                     if (rand < 0.3) { decidedAction = safeRaise(player, false); }
-                     else if (rand < 0.8) {call(player); decidedAction = "콜";}
-                     else {fold(player); decidedAction = "폴드";}
-                }
-                // 패가 약하다고 판단될 경우 로직
-                else {
-                    if (isBehind && rand < 0.85) {
-                        fold(player); decidedAction = "폴드";
-                    } else if (!isBehind && rand < 0.6) { 
-                        fold(player); decidedAction = "폴드";
-                    }
-                    // 블러핑 로직 처리
-                    else {
-                         if (rand < 0.85) {call(player); decidedAction = "콜";}
-                         else {decidedAction = safeRaise(player, false);}
-                     }
-                }
-            }
-        }
+        //좌석 전략(GameManager.setStrategy)이 판단, 불가능한 행동이면 대체
+        String decidedAction = autoAct(player, manager.decideBet(player));
         // autoAction종료 
         player.setActedThisRound(true);
         return decidedAction;
     }
     
-    //안전 베팅 처리 로직
-    private String safeRaise(Player player, boolean isHalf) {
-        try {
-            if (isHalf) {
-                halfRaise(player); 
-            } else {
-                quarterRaise(player);
-            }
-            return isHalf ? "하프 레이즈" : "쿼터 레이즈";
-        } catch (IllegalStateException e) {        	
-            int callAmountWhenRaiseFails = getCurrentBet() - player.getCurrentBet();            
-            if (getCurrentBet() > 0 && player.getCoin() >= callAmountWhenRaiseFails && callAmountWhenRaiseFails >=0) {
-                call(player);
-                return "콜 (레이즈 실패 후)";
-            } else if (getCurrentBet() == 0 || callAmountWhenRaiseFails <= 0) { 
-                check(player);
-                return "체크 (레이즈 실패 후)";
-            } else {
-                fold(player);
-                return "폴드 (레이즈 실패 및 콜 불가)";
-            }
+    //자동 행동 처리: 불가능한 행동이면 콜 -> 체크 -> 폴드 순으로 대체 (legalActions로 판정, 예외 없음)
+    private String autoAct(Player player, BetAction action) {
+        int legal = legalActions(player, null);
+        if (action != null && action.isIn(legal)) {
+            act(player, action);
+            return action.getDisplayName();
         }
+        BetAction fallback = BetAction.CALL.isIn(legal) ? BetAction.CALL
+                : BetAction.CHECK.isIn(legal) ? BetAction.CHECK : BetAction.FOLD;
+        act(player, fallback);
+        return fallback.getDisplayName() + " (" + (action != null ? action.getDisplayName() : "행동 없음") + " 불가)";
     }
     
     //플레이어 초기 베팅금 처리 로직
-    public void applyAnteBet(Player player, int amount) {
+    public void applyAnteBet(Player player, long amount) {
         if (player.isFolded()) {
             return;
         }
         try {
             player.bet(amount);
-            this.pot += amount;
-            this.currentBet = amount;
+            ledger.setCurrentBet(amount);
         } catch (IllegalArgumentException e) {
         	e.printStackTrace();
         }
@@ -314,7 +320,7 @@ public class BettingSystem {
     
     //라운드 별 베팅 액션 관리/처리 로직
     public boolean isBettingOver(Player user, Player computer) {
-    	
+    	long currentBet = ledger.getCurrentBet();
         if (user.isFolded() || computer.isFolded()) {
             return true;
         }
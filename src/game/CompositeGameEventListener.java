@@ -0,0 +1,77 @@
+package game;
+
+import player.Player;
+
+//여러 리스너에 같은 알림을 순서대로 전달 (예: GUI + 기록기, 시뮬레이터 집계 + 기록기)
+//컴퓨터 차례 진행은 하나라도 직접 진행(pacesComputerTurns)하면 리스너에 맡김
+public final class CompositeGameEventListener implements GameEventListener {
+
+    private final GameEventListener[] listeners;
+
+    public CompositeGameEventListener(GameEventListener... listeners) {
+        this.listeners = listeners.clone();
+    }
+
+    @Override
+    public void onHandStarted(GameManager manager) {
+        for (GameEventListener listener : listeners) listener.onHandStarted(manager);
+    }
+
+    @Override
+    public void onStateChanged(GameManager manager) {
+        for (GameEventListener listener : listeners) listener.onStateChanged(manager);
+    }
+
+    @Override
+    public void onDiscardSelectionRequested() {
+        for (GameEventListener listener : listeners) listener.onDiscardSelectionRequested();
+    }
+
+    @Override
+    public void onOpenSelectionRequested() {
+        for (GameEventListener listener : listeners) listener.onOpenSelectionRequested();
+    }
+
+    @Override
+    public void onBettingTurn(Player player) {
+        for (GameEventListener listener : listeners) listener.onBettingTurn(player);
+    }
+
+    @Override
+    public void onBettingAction(Player player, BetAction action, long amount) {
+        for (GameEventListener listener : listeners) listener.onBettingAction(player, action, amount);
+    }
+
+    @Override
+    public void onActionRejected(Player player, String reason) {
+        for (GameEventListener listener : listeners) listener.onActionRejected(player, reason);
+    }
+
+    @Override
+    public void onAutoActionFailed(Player player, Exception e) {
+        for (GameEventListener listener : listeners) listener.onAutoActionFailed(player, e);
+    }
+
+    @Override
+    public boolean pacesComputerTurns() {
+        for (GameEventListener listener : listeners) {
+            if (listener.pacesComputerTurns()) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void onHandFinished(ShowdownResult result) {
+        for (GameEventListener listener : listeners) listener.onHandFinished(result);
+    }
+
+    @Override
+    public void onNotEnoughCoins() {
+        for (GameEventListener listener : listeners) listener.onNotEnoughCoins();
+    }
+
+    @Override
+    public void onGameOver(boolean noMoney) {
+        for (GameEventListener listener : listeners) listener.onGameOver(noMoney);
+    }
+}
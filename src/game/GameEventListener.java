@@ -0,0 +1,48 @@
+package game;
+
+import player.Player;
+
+//GameManager 상태 변화 알림 인터페이스 (GUI, 기록기, 봇 하네스 등)
+//모든 메서드는 기본 구현이 비어 있으므로 필요한 알림만 재정의
+//리스너가 없으면 NONE을 사용하며, 이 경우 문자열 생성이나 화면 갱신 비용이 없음
+public interface GameEventListener {
+
+    GameEventListener NONE = new GameEventListener() { };
+
+    //새 판 시작 (덱 리셋, 앤티 납부 직후, 카드 배분 전)
+    default void onHandStarted(GameManager manager) { }
+
+    //팟, 코인, 카드, 라운드 등 화면에 보이는 상태가 바뀜
+    default void onStateChanged(GameManager manager) { }
+
+    //유저에게 버릴 카드 선택 요청
+    default void onDiscardSelectionRequested() { }
+
+    //유저에게 오픈할 카드 선택 요청
+    default void onOpenSelectionRequested() { }
+
+    //베팅 라운드 시작 또는 유저 베팅 차례
+    default void onBettingTurn(Player player) { }
+
+    //true면 컴퓨터 차례에 리스너가 직접 GameManager.triggerComputerTurn()을 호출 (GUI 딜레이 등)
+    //false면 GameManager가 바로 컴퓨터 행동을 진행
+    default boolean pacesComputerTurns() { return false; }
+
+    //베팅 행동 완료 (amount: 이번 행동으로 낸 코인, 라운드는 manager.getPhase()로 확인)
+    default void onBettingAction(Player player, BetAction action, long amount) { }
+
+    //유저 행동이 규칙 위반으로 거부됨 (같은 차례에 다시 행동 필요)
+    default void onActionRejected(Player player, String reason) { }
+
+    //자동 베팅(autoAction) 실패로 해당 플레이어를 폴드 처리함
+    default void onAutoActionFailed(Player player, Exception e) { }
+
+    //한 판 종료 (쇼다운 또는 폴드)
+    default void onHandFinished(ShowdownResult result) { }
+
+    //다음 판 앤티를 낼 코인이 부족함
+    default void onNotEnoughCoins() { }
+
+    //판 종료 후 다음 행동 대기 (noMoney: 재시작만 가능)
+    default void onGameOver(boolean noMoney) { }
+}
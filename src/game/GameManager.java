@@ -2,25 +2,44 @@ package game;
 
 import player.*;
 import card.*;
-import ui.GameGUI; // GameGUI 참조를 위해 임포트 (실제 패키지 경로에 맞게 조정 필요)
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
 import exception.InvalidBetException;
+import metrics.BettingActionEvent;
+import metrics.EngineMetrics;
+import metrics.HandEndEvent;
+import metrics.HandStartEvent;
+import metrics.PhaseEvent;
 
 public class GameManager {
 	
 	//필드
-    private Deck deck = new Deck();
+    private final Deck deck;
+    private final LongFunction<? extends RandomGenerator> deckRandom; // 덱 난수 생성기 (null이면 Deck 기본 SplitMix64)
+    private static final long DECISION_SALT = 0x5DEECE66DL;         // 판 시드에서 판단용 난수 시드 분리
+    private long sessionSeed;                   // 판별 덱 시드 생성 (시드로 판 재현)
+    private long handNumber = 0;                // 지금까지 시작한 판 수
+    private final SplitMix64 decisions;         // 선 플레이어, 자동 베팅 확률 판단용 (판마다 판 시드로 다시 시드)
+    private int decisionDraws = 0;              // 이번 판에서 decisions를 사용한 횟수 (스냅샷 복원 시 재생)
+    private int tableId = 0;                    // 지표/JFR 이벤트 구분용 테이블 번호
+    private HandEndEvent handEvent;             // 진행 중인 판의 JFR 이벤트 (판 시작 시각 기록)
     private UserPlayer user = new UserPlayer();
     private ComputerPlayer computer = new ComputerPlayer();
     private Player currentPlayer;
     private BettingSystem bettingSystem;
+    private final Strategy[] strategies = new Strategy[BettingLedger.SEATS]; // 좌석별 자동 판단(버리기, 오픈, 베팅)
+    private final GameView[] views = new GameView[BettingLedger.SEATS];     // 좌석별 읽기 전용 상태
+    private long decisionBudgetNanos = DEFAULT_DECISION_BUDGET_NANOS;       // 판단 하나의 제한 시간 (0 이하면 제한 없음)
     
+    public static final long DEFAULT_DECISION_BUDGET_NANOS = 2_000_000L;
     // 앤티 금액(초기 게임비)
     public static final int ANTE_AMOUNT = 5000;
-    private GameGUI gui;
+    private GameEventListener listener = GameEventListener.NONE; // GUI 등 상태 변화 알림 대상 (없으면 헤드리스)
     private boolean gameTrulyOverNoMoney = false; // 한쪽 코인이 없어 완전 종료해야 하는지 여부
 
-    // 게임 라운드 및 상태 정의
+    // 게임 라운드 및 상태 정의 (GamePhase 순서와 동일)
     public static final int INIT_DEAL = 0;                  // 초기 4장 배분
     public static final int DISCARD_OPEN_PHASE = 1;         // 1장 버리고 1장 오픈 단계
     public static final int FIRST_BETTING_ROUND_START = 2;  // 첫 번째 베팅 라운드 시작
@@ -35,18 +54,86 @@ public class GameManager {
     public static final int SHOWDOWN_PHASE = 11;            // 쇼다운
     public static final int GAME_OVER = 12;                 // 게임 종료
     
-    private int currentRound;	// 현재 게임 라운드(진행 상태)
+    private GamePhase phase = GamePhase.INIT_DEAL;	// 현재 게임 단계(진행 상태)
+    private boolean bettingRoundStarted = false;  // 현재 베팅 라운드의 리셋/선 플레이어 결정 완료 여부
     private boolean userDiscardCompleted = false; // 사용자가 카드 버리기를 완료했는지
     private boolean userOpenCompleted = false;    // 사용자가 카드 오픈을 완료했는지
     
     //생성자
     public GameManager() {
-        this.bettingSystem = new BettingSystem(this);
+        this(new SplittableRandom().nextLong());
+    }
+    
+    //세션 시드 지정 생성자 (같은 세션 시드면 같은 순서의 판 시드)
+    public GameManager(long sessionSeed) {
+        this(sessionSeed, null);
+    }
+    
+    //덱 난수 생성기 지정 (판 시드 -> 생성기, Deck(LongFunction) 참고)
+    public GameManager(long sessionSeed, LongFunction<? extends RandomGenerator> deckRandom) {
+        this.sessionSeed = sessionSeed;
+        this.deckRandom = deckRandom;
+        this.deck = new Deck(deckRandom);
+        this.decisions = new SplitMix64(sessionSeed ^ DECISION_SALT);
+        BettingLedger ledger = new BettingLedger(); // 두 플레이어와 BettingSystem이 공유하는 좌석별 장부
+        user.attachLedger(ledger, BettingLedger.USER_SEAT);
+        computer.attachLedger(ledger, BettingLedger.COMPUTER_SEAT);
+        this.bettingSystem = new BettingSystem(this, ledger);
+        for (Player player : new Player[] { user, computer }) {
+            strategies[player.getSeat()] = RuleBasedStrategy.INSTANCE;
+            views[player.getSeat()] = new GameView(this, player);
+        }
+    }
+
+    //좌석 자동 판단 전략 지정 (null이면 기본 규칙)
+    public void setStrategy(Player player, Strategy strategy) {
+        strategies[player.getSeat()] = strategy != null ? strategy : RuleBasedStrategy.INSTANCE;
+    }
+
+    public Strategy getStrategy(Player player) {
+        return strategies[player.getSeat()];
+    }
+
+    //좌석 기준 읽기 전용 상태
+    public GameView getView(Player player) {
+        return views[player.getSeat()];
+    }
+
+    //판단 하나의 제한 시간 (0 이하면 제한 없음 - 표본 수만큼 계산, 같은 시드면 같은 판단)
+    public void setDecisionBudgetNanos(long decisionBudgetNanos) {
+        this.decisionBudgetNanos = decisionBudgetNanos;
+    }
+
+    public long getDecisionBudgetNanos() {
+        return decisionBudgetNanos;
+    }
+
+    private long decisionDeadline() {
+        return decisionBudgetNanos > 0 ? System.nanoTime() + decisionBudgetNanos : Strategy.NO_DEADLINE;
+    }
+
+    //좌석 전략의 베팅 판단 (BettingSystem.autoAction)
+    BetAction decideBet(Player player) {
+        return strategies[player.getSeat()].chooseBet(views[player.getSeat()], decisionDeadline());
+    }
+
+    //좌석 전략의 버릴 카드 (패에 없는 카드면 기본 규칙)
+    private Card decideDiscard(Player player) {
+        GameView view = views[player.getSeat()];
+        Card card = strategies[player.getSeat()].chooseDiscard(view, decisionDeadline());
+        return player.getHand().contains(card) ? card : RuleBasedStrategy.INSTANCE.chooseDiscard(view, Strategy.NO_DEADLINE);
+    }
+
+    //좌석 전략의 오픈 카드 (패에 없는 카드면 기본 규칙)
+    private Card decideOpen(Player player) {
+        GameView view = views[player.getSeat()];
+        Card card = strategies[player.getSeat()].chooseOpen(view, decisionDeadline());
+        return player.getHand().contains(card) ? card : RuleBasedStrategy.INSTANCE.chooseOpen(view, Strategy.NO_DEADLINE);
     }
 
-    //GUI 참조 설정
-    public void setGUI(GameGUI gui) {
-        this.gui = gui;
+    //상태 변화 알림 대상 설정 (null이면 알림 없이 헤드리스로 진행)
+    public void setListener(GameEventListener listener) {
+        this.listener = (listener != null) ? listener : GameEventListener.NONE;
     }
     
     //BettingSystem 반환
@@ -73,14 +160,116 @@ public class GameManager {
     public Player getCurrentPlayer() {
     	return currentPlayer;
     	}
+    //테이블 전용 난수 [0, 1) (선 플레이어 결정, 자동 베팅), nextLong 상위 53비트
+    public double nextRandom() {
+        decisionDraws++;
+        return (decisions.nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    //테이블 전용 난수 시드 (에퀴티 표본 등, nextRandom과 같이 nextLong 한 번이므로 스냅샷 재생과 일치)
+    public long nextSeed() {
+        decisionDraws++;
+        return decisions.nextLong();
+    }
+
+    //지표/JFR 이벤트용 테이블 번호
+    public int getTableId() {
+        return tableId;
+    }
+
+    public void setTableId(int tableId) {
+        this.tableId = tableId;
+    }
+
+    public long getSessionSeed() {
+        return sessionSeed;
+    }
+
+    //스냅샷용 내부 상태 조회
+    long getHandNumber() {
+        return handNumber;
+    }
+
+    Deck getDeck() {
+        return deck;
+    }
+
+    LongFunction<? extends RandomGenerator> getDeckRandom() {
+        return deckRandom;
+    }
+
+    //좌석 전략, 판단 제한 시간, 테이블 번호 복사 (GameSnapshot.restoreNew, 전략 객체는 공유)
+    void copySettings(GameManager source) {
+        strategies[user.getSeat()] = source.strategies[source.user.getSeat()];
+        strategies[computer.getSeat()] = source.strategies[source.computer.getSeat()];
+        decisionBudgetNanos = source.decisionBudgetNanos;
+        tableId = source.tableId;
+    }
+
+    int getDecisionDraws() {
+        return decisionDraws;
+    }
+
+    boolean isBettingRoundStarted() {
+        return bettingRoundStarted;
+    }
+
+    //스냅샷 복원: 덱 위치와 판단용 난수는 판 시드에서 사용한 만큼 다시 진행
+    void restoreFlow(long sessionSeed, long handNumber, int deckDrawn, int decisionDraws, GamePhase phase,
+                     boolean bettingRoundStarted, boolean userDiscardCompleted, boolean userOpenCompleted,
+                     boolean gameTrulyOverNoMoney, Player currentPlayer) {
+        this.sessionSeed = sessionSeed;
+        this.handNumber = handNumber;
+        if (handNumber > 0) {
+            long handSeed = handSeed(sessionSeed, handNumber - 1);
+            deck.restore(handSeed, deckDrawn);
+            decisions.setSeed(handSeed ^ DECISION_SALT);
+        } else {
+            deck.reset();
+            decisions.setSeed(sessionSeed ^ DECISION_SALT);
+        }
+        for (int i = 0; i < decisionDraws; i++) decisions.nextLong();
+        this.decisionDraws = decisionDraws;
+        this.phase = phase;
+        this.bettingRoundStarted = bettingRoundStarted;
+        this.userDiscardCompleted = userDiscardCompleted;
+        this.userOpenCompleted = userOpenCompleted;
+        this.gameTrulyOverNoMoney = gameTrulyOverNoMoney;
+        this.currentPlayer = currentPlayer;
+    }
+
+    //복원한 상태에서 이어서 진행: 현재 단계의 알림(선택 요청, 베팅 차례)을 다시 보냄
+    public void resume() {
+        if (phase.getKind() == GamePhase.Kind.BETTING && bettingRoundStarted) {
+            listener.onStateChanged(this);
+            listener.onBettingTurn(currentPlayer);
+            if (currentPlayer == computer && !listener.pacesComputerTurns()) triggerComputerTurn();
+        } else if (phase == GamePhase.GAME_OVER) {
+            listener.onStateChanged(this);
+            listener.onGameOver(gameTrulyOverNoMoney);
+        } else {
+            proceedToNextPhase();
+        }
+    }
+
+    //현재 판의 덱 시드 반환 (Deck.reset(seed)로 같은 카드 순서 재현)
+    public long getHandSeed() {
+    	return deck.getHandSeed();
+    	}
+    
     //현재 라운드 상태 확인
     public int getCurrentRound() {
-    	return currentRound;
+    	return phase.getRound();
+    	}
+    
+    //현재 게임 단계 반환
+    public GamePhase getPhase() {
+    	return phase;
     	}
     
     //게임 시작 로직(코인 유지)
     public void startGame() {
-        deck.reset();
+        startHandRandom(); // 판 시드로 덱, 판단용 난수 리셋
         user.clearAll();
         computer.clearAll();
         user.resetCoin(10000); // 초기 코인 설정
@@ -89,24 +278,74 @@ public class GameManager {
         int anteAmount = 5000; // 엔티
         bettingSystem.collectAnte(user, anteAmount);
         bettingSystem.collectAnte(computer, anteAmount);
+        notifyHandStarted();
         userDiscardCompleted = false;
         userOpenCompleted = false;
-        currentRound = INIT_DEAL;
-        if (gui != null) gui.updateUI(); // GUI 상태 업데이트
+        bettingRoundStarted = false;
+        phase = GamePhase.INIT_DEAL;
         proceedToNextPhase(); // 첫 게임 단계 시작
     }
     
+    //판 시작 알림 (지표, JFR, 리스너)
+    private void notifyHandStarted() {
+        EngineMetrics.handStarted();
+        HandStartEvent started = new HandStartEvent();
+        if (started.shouldCommit()) {
+            started.tableId = tableId;
+            started.handSeed = deck.getHandSeed();
+            started.pot = bettingSystem.getPot();
+            started.commit();
+        }
+        handEvent = new HandEndEvent();
+        handEvent.begin();
+        listener.onHandStarted(this);
+    }
+
+    //판 종료 JFR 이벤트 (pot: 승자에게 지급하기 전 팟)
+    private void commitHandEvent(ShowdownResult result, long pot) {
+        if (handEvent != null && handEvent.shouldCommit()) {
+            handEvent.tableId = tableId;
+            handEvent.handSeed = deck.getHandSeed();
+            handEvent.pot = pot;
+            handEvent.fold = result.isFold();
+            handEvent.winner = getPlayerName(result.getWinner());
+            handEvent.commit();
+        }
+        handEvent = null;
+    }
+
+    //단계 처리 JFR 이벤트
+    private void commitPhaseEvent(PhaseEvent event, GamePhase entered) {
+        if (event.shouldCommit()) {
+            event.tableId = tableId;
+            event.phase = entered.name();
+            event.nextPhase = phase.name();
+            event.pot = bettingSystem.getPot();
+            event.commit();
+        }
+    }
+
+    //판 시드: SplitMix64(sessionSeed)의 index+1번째 값 (세션 시드와 판 번호만으로 계산, 앞 판을 다시 돌리지 않음)
+    private static long handSeed(long sessionSeed, long index) {
+        return SplitMix64.mix64(sessionSeed + (index + 1) * SplitMix64.GOLDEN_GAMMA);
+    }
+
+    private void startHandRandom() {
+        long handSeed = handSeed(sessionSeed, handNumber);
+        handNumber++;
+        deck.reset(handSeed);
+        decisions.setSeed(handSeed ^ DECISION_SALT);
+        decisionDraws = 0;
+    }
+
     //게임 이어하기 로직
     public void startNextHand() {
         // 앤티를 낼 코인이 있는지 확인
         if (user.getCoin() < ANTE_AMOUNT || computer.getCoin() < ANTE_AMOUNT) {
             gameTrulyOverNoMoney = true; // 없을 시 완전 종료 상태로 설정
-            currentRound = GAME_OVER;    // GAME_OVER 상태 유지
+            phase = GamePhase.GAME_OVER;    // GAME_OVER 상태 유지
             //보유 코인 < 엔티 시
-            if (gui != null) {
-                gui.showInfo("코인이 부족합니다. 게임을 재시작하세요.");
-                gui.updateUI();
-            }
+            listener.onNotEnoughCoins();
             return;
         }
         gameTrulyOverNoMoney = false; //게임 가능 상태
@@ -115,7 +354,7 @@ public class GameManager {
 
     //새 핸드 준비 및 첫 단계
     private void prepareNewHandAndDeal() {
-        deck.reset();
+        startHandRandom(); // 판 시드로 덱, 판단용 난수 리셋
         user.clearAll();
         computer.clearAll();
         bettingSystem.resetPot();
@@ -124,17 +363,28 @@ public class GameManager {
             bettingSystem.collectAnte(computer, ANTE_AMOUNT);
         } catch (InvalidBetException e) { //startNextHand에 예외 처리 선언 했기에 여기선 생략
             gameTrulyOverNoMoney = true;
-            currentRound = GAME_OVER;
+            phase = GamePhase.GAME_OVER;
             return;
         }        
+        notifyHandStarted();
         userDiscardCompleted = false;
         userOpenCompleted = false;
-        currentRound = INIT_DEAL; // 초기 카드 배분 단계로 설정
+        bettingRoundStarted = false;
+        phase = GamePhase.INIT_DEAL; // 초기 카드 배분 단계로 설정
 
-        if (gui != null) gui.updateUI();
         proceedToNextPhase();
     }
 
+    //유저 카드 버리기 완료 여부
+    public boolean isUserDiscardCompleted() {
+        return userDiscardCompleted;
+    }
+
+    //유저 카드 오픈 완료 여부
+    public boolean isUserOpenCompleted() {
+        return userOpenCompleted;
+    }
+
     //게임 이어하기 버튼 활성화 여부 판단 로직
     public boolean canContinueGame() {
         return user.getCoin() >= ANTE_AMOUNT && computer.getCoin() >= ANTE_AMOUNT && !gameTrulyOverNoMoney;
@@ -145,177 +395,182 @@ public class GameManager {
         return gameTrulyOverNoMoney;
     }
     
-    //게임 다음 단게 진행
-    public void proceedToNextPhase() {       
-    	
-    	//라운드 별 베팅 리셋
-    	if (currentRound == FIRST_BETTING_ROUND_START ||
-                currentRound == SECOND_BETTING_ROUND_START ||
-                currentRound == THIRD_BETTING_ROUND_START ||
-                currentRound == FOURTH_BETTING_ROUND_START ||
-                currentRound == FIFTH_BETTING_ROUND_START) {
-                bettingSystem.resetRound(); // 새 베팅 라운드 시작 전 상태 초기화 (currentBet = 0 포함
-            }
-    	
-    	//플레이어 폴드 시 처리 로
-        if (currentRound < SHOWDOWN_PHASE && currentRound != GAME_OVER &&
-            (user.isFolded() || computer.isFolded())) {
-            currentRound = SHOWDOWN_PHASE;
+    //게임 다음 단계 진행: 입력(카드 선택, 유저 베팅, GUI 컴퓨터 딜레이)이 필요할 때까지 반복
+    public void proceedToNextPhase() {
+        while (step()) {
+            // 재귀 없이 단계별로 진행
         }
-        //게임 종료 시 중복 업데이트 방지
-        if (gui != null && currentRound != GAME_OVER) {
-            gui.updateUI();
-       }
-        
-        //라운드 별 처리 로직
-        switch (currentRound) {
+    }
+
+    //현재 단계 한 번 실행 (true: 이어서 다음 단계 진행 가능, false: 외부 입력 대기 또는 판 종료)
+    public boolean step() {
+        GamePhase entered = phase;
+        long start = EngineMetrics.start();
+        PhaseEvent event = new PhaseEvent();
+        event.begin();
+        try {
+            return runPhase();
+        } finally {
+            EngineMetrics.recordPhase(entered, start); // 단계별 엔진 처리 시간 (입력 대기 시간 제외)
+            commitPhaseEvent(event, entered);
+        }
+    }
+
+    private boolean runPhase() {
+    	//플레이어 폴드 시 처리 로직
+        if (phase.compareTo(GamePhase.SHOWDOWN_PHASE) < 0 && (user.isFolded() || computer.isFolded())) {
+            phase = GamePhase.SHOWDOWN_PHASE;
+        }
+
+        //단계 종류별 처리 로직
+        switch (phase.getKind()) {
         	// 4장씩 배분
-            case INIT_DEAL:
-            	
+            case DEAL_INITIAL:
                 for (int i = 0; i < 4; i++) {
                     user.receiveCard(deck.draw());
                     computer.receiveCard(deck.draw());
                 }
-                currentRound = DISCARD_OPEN_PHASE;
-                if (gui != null) gui.updateUI();
-                proceedToNextPhase();
-                break;
-
-             //카드 버리기 / 오픈 단계 처리 로직
-            case DISCARD_OPEN_PHASE:
-            	
-                if (!userDiscardCompleted) {
-                	
-                    if (gui != null) gui.promptDiscardSelection();
-                } else if (!userOpenCompleted) {
-                	
-                    if (gui != null) gui.promptOpenSelection();
-                }
-                break;
-            //첫번째 베팅 라운드
-            case FIRST_BETTING_ROUND_START:
-                bettingSystem.resetRound(); 
-                determineFirstTurnLeader(); //첫 턴 결정(베팅)
-                if (gui != null) {
-                    gui.updateUI();
-                    gui.startBettingPhase(currentPlayer);
-                }
-                break;
-                
-            // 4번째카드 배분(오픈)
-            case DEAL_4TH_STREET:
-                dealNextCardOpen();
-                currentRound = SECOND_BETTING_ROUND_START;
-                if (gui != null) gui.updateUI();
-                proceedToNextPhase();
-                break;
-                
-            //두번째 베팅 라운드
-            case SECOND_BETTING_ROUND_START:
-                bettingSystem.resetRound();
-                determineBettingLeaderByOpenCards();
-                if (gui != null) {
-                    gui.updateUI();
-                    gui.startBettingPhase(currentPlayer);
-                }
-                break;
-                
-            //5번째 카드 배분(오픈)
-            case DEAL_5TH_STREET:
-                dealNextCardOpen();
-                currentRound = THIRD_BETTING_ROUND_START;
-                if (gui != null) gui.updateUI();
-                proceedToNextPhase();
-                break;
-            
-            //세번째 베팅 라운
-            case THIRD_BETTING_ROUND_START:
-                bettingSystem.resetRound();
-                determineBettingLeaderByOpenCards();
-                if (gui != null) {
-                    gui.updateUI();
-                    gui.startBettingPhase(currentPlayer);
-                }
-                break;
-             
-            //6번째 카드 배분
-            case DEAL_6TH_STREET:
+                phase = phase.getNext();
+                return true;
+
+            // 4~6번째 카드 배분(오픈)
+            case DEAL_OPEN:
                 dealNextCardOpen();
-                currentRound = FOURTH_BETTING_ROUND_START;
-                if (gui != null) gui.updateUI();
-                proceedToNextPhase();
-                break;
-                
-            //4번째 베팅 라운드
-            case FOURTH_BETTING_ROUND_START:
-                bettingSystem.resetRound();
-                determineBettingLeaderByOpenCards();
-                if (gui != null) {
-                    gui.updateUI();
-                    gui.startBettingPhase(currentPlayer);
-                }
-                break;
+                phase = phase.getNext();
+                return true;
 
             //7번 째 카드 배분(히든)
-            case DEAL_7TH_STREET:
+            case DEAL_HIDDEN:
                 dealNextCardHidden();
-                currentRound = FIFTH_BETTING_ROUND_START;
-                if (gui != null) gui.updateUI();
-                proceedToNextPhase();
-                break;
-
-            //5번째 베팅 라운
-            case FIFTH_BETTING_ROUND_START:
-                bettingSystem.resetRound();
-                determineBettingLeaderByOpenCards();
-                if (gui != null) {
-                    gui.updateUI();
-                    gui.startBettingPhase(currentPlayer);
-                }
-                break;
-                
-                
-            //쇼다운(게임 종료)
-            case SHOWDOWN_PHASE:
-                String result = showdown(); //pot 승자에게 지급
-                currentRound = GAME_OVER;   // 핸드 종료 상태로 전환
-                if (gui != null) {
-                    gui.displayGameResult(result);
-                    gui.updateUI();
+                phase = phase.getNext();
+                return true;
+
+            //카드 버리기 / 오픈 단계 처리 로직
+            case SELECTION:
+                listener.onStateChanged(this);
+                if (!userDiscardCompleted) {
+                    listener.onDiscardSelectionRequested();
+                } else if (!userOpenCompleted) {
+                    listener.onOpenSelectionRequested();
                 }
-                break;
+                return false;
 
-            //게임 종료 후 재시작 or 이어하기 선택
-            case GAME_OVER:
-                if (gui != null) {
-                    if(gameTrulyOverNoMoney) {
-                        gui.showInfo(gui.getInfoLabelText() + "<br>코인이 부족하여 '게임 재시작'만 가능합니다.");
-                    } else {
-                        gui.showInfo(gui.getInfoLabelText() + "<br>'게임 이어하기' 또는 '게임 재시작'을 선택하세요.");
-                    }
+            //베팅 라운드: 시작 시 한 번 리셋 및 선 플레이어 결정 후 첫 차례 진행
+            case BETTING:
+                if (bettingRoundStarted) return false; // 이미 진행 중인 라운드는 행동 대기
+                bettingSystem.resetRound(); // 새 베팅 라운드 시작 전 상태 초기화 (currentBet = 0 포함)
+                if (phase == GamePhase.FIRST_BETTING_ROUND_START) determineFirstTurnLeader(); //첫 턴 결정(베팅)
+                else determineBettingLeaderByOpenCards();
+                bettingRoundStarted = true;
+                listener.onStateChanged(this);
+                listener.onBettingTurn(currentPlayer);
+                if (currentPlayer == computer && !listener.pacesComputerTurns()) {
+                    playComputerAction();
+                    return advanceBetting();
                 }
-                break;
+                return false;
+
+            //쇼다운(게임 종료)
+            case SHOWDOWN:
+                listener.onStateChanged(this);
+                long finalPot = bettingSystem.getPot();
+                ShowdownResult result = resolveShowdown(); //pot 승자에게 지급
+                phase = GamePhase.GAME_OVER;   // 핸드 종료 상태로 전환
+                EngineMetrics.handFinished();
+                commitHandEvent(result, finalPot);
+                listener.onHandFinished(result);
+                listener.onStateChanged(this);
+                return false;
 
+            //게임 종료 후 재시작 or 이어하기 선택
+            case END:
             default:
-                currentRound = GAME_OVER;
-                if (gui != null) gui.updateUI();
-                break;
+                listener.onGameOver(gameTrulyOverNoMoney);
+                return false;
+        }
+    }
+
+    //베팅 행동 이후 진행: 라운드가 끝나면 다음 단계로 (true), 유저 차례면 알림 후 대기 (false)
+    //컴퓨터 차례는 재귀 없이 반복문 안에서 바로 처리
+    private boolean advanceBetting() {
+        while (true) {
+            if (bettingSystem.isBettingOver(user, computer)) {
+                phase = phase.getNext(); // 전이 테이블의 다음 단계 (배분 또는 쇼다운)
+                bettingRoundStarted = false;
+                return true;
+            }
+            nextTurn(); // 다음 플레이어로 턴 넘김 (currentPlayer 변경)
+            if (currentPlayer == computer) {
+                playComputerAction();
+            } else { // 사용자 턴
+                listener.onStateChanged(this); // 턴 변경 후 상태 알림
+                listener.onBettingTurn(currentPlayer);
+                return false;
+            }
+        }
+    }
+
+    //컴퓨터 자동 베팅 (예외 발생 시 폴드)
+    private void playComputerAction() {
+        playAutoAction(computer);
+    }
+
+    //자동 베팅 (autoAction은 legalActions로 판정해 규칙 위반 예외 없음, 예상치 못한 예외만 리스너에 알리고 폴드)
+    private void playAutoAction(Player player) {
+        try {
+            bettingSystem.autoAction(player); // 자동 액션 처리
+        } catch (Exception e) {
+            listener.onAutoActionFailed(player, e);
+            bettingSystem.fold(player); // 예외 발생 시 안전하게 폴드 처리
+            player.setActedThisRound(true); // 액션한 것으로 처리
         }
     }
 
+    //유저 차례를 자동 베팅으로 진행 (셀프 플레이, 봇 하네스)
+    public void userAutoActionCompleted() {
+        if (phase.getKind() != GamePhase.Kind.BETTING || currentPlayer != user) return;
+        playAutoAction(user);
+        userBettingActionCompleted();
+    }
+
+    //유저 카드 선택(버리기 또는 오픈)을 유저 좌석 전략으로 진행 (셀프 플레이, 봇 하네스, 제한 시간 초과)
+    public void userAutoSelectionCompleted() {
+        if (phase.getKind() != GamePhase.Kind.SELECTION || userOpenCompleted) return;
+        if (!userDiscardCompleted) {
+            userDiscardPhase(decideDiscard(user));
+            userActionsForDiscardOpenCompleted(true);
+        } else {
+            userOpenPhase(decideOpen(user));
+            userActionsForDiscardOpenCompleted(false);
+        }
+    }
+
+    //BettingSystem 베팅 행동 알림 전달
+    void notifyBettingAction(Player player, BetAction action, long amount) {
+        BettingActionEvent event = new BettingActionEvent();
+        if (event.shouldCommit()) {
+            event.tableId = tableId;
+            event.phase = phase.name();
+            event.player = getPlayerName(player);
+            event.action = action.name();
+            event.amount = amount;
+            event.pot = bettingSystem.getPot();
+            event.commit();
+        }
+        listener.onBettingAction(player, action, amount);
+    }
+
     //카드 버리기 및 오픈 완료 로직
     public void userActionsForDiscardOpenCompleted(boolean isDiscardPhaseDone) {
-        if (currentRound == DISCARD_OPEN_PHASE) {
+        if (phase == GamePhase.DISCARD_OPEN_PHASE) {
             if (isDiscardPhaseDone && !userDiscardCompleted) {
                 computerDiscardPhase(); // 컴퓨터 카드 버림
                 userDiscardCompleted = true;
-                if (gui != null) gui.updateUI(); // 컴퓨터가 카드를 버린 후 UI 업데이트
                 proceedToNextPhase(); // 다시 DISCARD_OPEN_PHASE로 진입하여 오픈 단계 요청
             } else if (!isDiscardPhaseDone && userDiscardCompleted && !userOpenCompleted) {
                 computerOpenPhase(); // 컴퓨터 카드 오픈
                 userOpenCompleted = true;
-                if (gui != null) gui.updateUI(); // 컴퓨터가 카드를 오픈한 후 UI 업데이트
-                currentRound = FIRST_BETTING_ROUND_START; // 다음 단계는 첫 베팅 라운드
+                phase = phase.getNext(); // 다음 단계는 첫 베팅 라운드
                 proceedToNextPhase(); // 첫 베팅 라운드 시작
             }
         }
@@ -323,58 +578,35 @@ public class GameManager {
 
    //베팅 완료 후 로직
     public void userBettingActionCompleted() {
-        if (gui != null) gui.updateUI();
+        listener.onStateChanged(this);
         checkBettingRoundOverAndProceed(); // 베팅 라운드 종료 여부 확인 및 다음 진행
     }
 
- // 컴퓨터 턴 진행 로직
+ // 컴퓨터 턴 진행 로직 (GUI 타이머 등 리스너가 호출)
     public void triggerComputerTurn() {        
         if (currentPlayer == computer && !computer.isFolded() && !user.isFolded()) { //모든 플레이어 폴드 안했을 시
-            try {
-                bettingSystem.autoAction(computer); // 자동 액션 처리
-            } catch (Exception e) {
-                e.printStackTrace();
-                bettingSystem.fold(computer); // 예외 발생 시 안전하게 폴드 처리
-                computer.setActedThisRound(true); // 액션한 것으로 처리
-            }
+            playComputerAction();
             checkBettingRoundOverAndProceed();
         } else { 
             if (bettingSystem.isBettingOver(user, computer)) {
                 checkBettingRoundOverAndProceed();
-            } else if (currentPlayer == user && gui != null) {
-                gui.startBettingPhase(user);
-            } else {
-                if (!user.isFolded() && !computer.isFolded() && currentPlayer != computer && gui != null) {
-                    nextTurn();
-                    gui.startBettingPhase(user);
-                }
+            } else if (currentPlayer == user) {
+                listener.onBettingTurn(user);
             }
         }
     }
 
     //베팅 라운드 종료 확인 후 다음 액션 처리 로직
     public void checkBettingRoundOverAndProceed() {
-        if (bettingSystem.isBettingOver(user, computer)) {
-            switch (currentRound) {
-                case FIRST_BETTING_ROUND_START: currentRound = DEAL_4TH_STREET; break;
-                case SECOND_BETTING_ROUND_START: currentRound = DEAL_5TH_STREET; break;
-                case THIRD_BETTING_ROUND_START: currentRound = DEAL_6TH_STREET; break;
-                case FOURTH_BETTING_ROUND_START: currentRound = DEAL_7TH_STREET; break;
-                case FIFTH_BETTING_ROUND_START: currentRound = SHOWDOWN_PHASE; break;
-                
-                default:
-                   currentRound = SHOWDOWN_PHASE;
-            }
+        GamePhase bettingPhase = phase;
+        long start = EngineMetrics.start();
+        PhaseEvent event = new PhaseEvent();
+        event.begin();
+        boolean roundOver = advanceBetting();
+        EngineMetrics.recordPhase(bettingPhase, start);
+        commitPhaseEvent(event, bettingPhase);
+        if (roundOver) {
             proceedToNextPhase(); // 다음 게임 단계로 진행
-        } else {
-            nextTurn(); // 다음 플레이어로 턴 넘김 (currentPlayer 변경)
-            if (gui != null) gui.updateUI(); // 턴 변경 후 UI 업데이트
-
-            if (currentPlayer == computer) {
-                triggerComputerTurn();
-            } else { // 사용자 턴
-                if (gui != null) gui.startBettingPhase(currentPlayer);
-            }
         }
     }
 
@@ -387,6 +619,7 @@ public class GameManager {
     
     //컴퓨터 카드 버리기 단계
     public void computerDiscardPhase() {
+        computer.setSelectedDiscardCard(decideDiscard(computer));
         Card discarded = computer.chooseCardToDiscard();
     }
     
@@ -398,6 +631,7 @@ public class GameManager {
     
     //컴퓨터 카드 오픈 단계
     public void computerOpenPhase() {
+        computer.setSelectedOpenCard(decideOpen(computer));
         Card opened = computer.chooseCardToOpen();
     }
     
@@ -427,7 +661,7 @@ public class GameManager {
         Card computerHigh = (computerOpen != null && !computerOpen.isEmpty()) ? computerOpen.get(0) : null;
 
         if (userHigh == null && computerHigh == null) {
-            currentPlayer = (Math.random() < 0.5) ? user : computer;
+            currentPlayer = (nextRandom() < 0.5) ? user : computer;
         } else if (userHigh == null) {
             currentPlayer = computer;
         } else if (computerHigh == null) {
@@ -438,17 +672,18 @@ public class GameManager {
             else { // 랭크가 같으면 무늬로 (게임 규칙에 따라 다를 수 있음)
                 if (userHigh.getSuit().ordinal() > computerHigh.getSuit().ordinal()) currentPlayer = user;
                 else if (userHigh.getSuit().ordinal() < computerHigh.getSuit().ordinal()) currentPlayer = computer;
-                else currentPlayer = (Math.random() < 0.5) ? user : computer;
+                else currentPlayer = (nextRandom() < 0.5) ? user : computer;
             }
         }
     }
 
     //오픈된 카드 기준으로 선 베팅 플레이어 결정
     public void determineBettingLeaderByOpenCards() {
-        HandEvaluationResult userOpenEval = HandEvaluator.evaluatePartialHand(user.getOpenCards());//유저 오픈 카드 족보 평가
-        HandEvaluationResult computerOpenEval = HandEvaluator.evaluatePartialHand(computer.getOpenCards());// 컴퓨터 오픈 카드 족보 평가
+        // 플레이어가 카드를 받을 때마다 갱신한 오픈카드 상태로 족보 강도 비교 (OpenBoardTable 조회)
+        int userOpenStrength = OpenBoardTable.strength(user.getOpenState());
+        int computerOpenStrength = OpenBoardTable.strength(computer.getOpenState());
 
-        int comparison = HandEvaluationResult.compare(userOpenEval, computerOpenEval);//플레이어 오픈 카드 족보 비교
+        int comparison = Integer.compare(userOpenStrength, computerOpenStrength);//플레이어 오픈 카드 족보 비교
         if (comparison > 0) currentPlayer = user;
         else if (comparison < 0) currentPlayer = computer;
     }
@@ -458,23 +693,25 @@ public class GameManager {
         currentPlayer = getOpponent(currentPlayer);
     }
 
-    //쇼다운 처리 및 승자 결정
+    //쇼다운 처리 및 승자 결정 (결과 문자열 반환)
     public String showdown() {
+        return resolveShowdown().getMessage();
+    }
+
+    //쇼다운 처리: 승자에게 팟 지급 후 결과 반환 (문자열은 요청할 때만 생성)
+    ShowdownResult resolveShowdown() {
         if (user.isFolded()) {
             bettingSystem.awardPot(computer);
-            return getPlayerName(computer) + " 승리! (유저가 폴드했습니다!)";
+            return new ShowdownResult(this, computer, user, null, null);
         }
         if (computer.isFolded()) {
             bettingSystem.awardPot(user);
-            return getPlayerName(user) + " 승리! (컴퓨터가 폴드했습니다!)";
+            return new ShowdownResult(this, user, computer, null, null);
         }
 
         //7장 전체 카드로 최종 족보 평가
         HandEvaluationResult userResult = HandEvaluator.evaluateHand(user.getHand());
         HandEvaluationResult computerResult = HandEvaluator.evaluateHand(computer.getHand());
-
-        String userInfo = String.format("%s: %s (패: %s)", getPlayerName(user), userResult.getHandRank(), userResult.getDeterminingCards());
-        String computerInfo = String.format("%s: %s (패: %s)", getPlayerName(computer), computerResult.getHandRank(), computerResult.getDeterminingCards());
         
         Player winner;
         int comparison = HandEvaluationResult.compare(userResult, computerResult);
@@ -486,9 +723,7 @@ public class GameManager {
         }
         
         bettingSystem.awardPot(winner);
-        String winnerText = getPlayerName(winner) + " 승리!";
-        
-        return userInfo + "\n" + computerInfo + "\n\n" + winnerText;
+        return new ShowdownResult(this, winner, null, userResult, computerResult);
     }
 
     // 플레이어 이름 반환
@@ -0,0 +1,63 @@
+package game;
+
+//게임 진행 단계 (순서 = GameManager 라운드 상수 값)
+//각 단계의 종류와 다음 단계를 전이 테이블로 정의하여 GameManager가 반복문으로 진행
+public enum GamePhase {
+
+    INIT_DEAL(Kind.DEAL_INITIAL),                  // 초기 4장 배분
+    DISCARD_OPEN_PHASE(Kind.SELECTION),            // 1장 버리고 1장 오픈 단계
+    FIRST_BETTING_ROUND_START(Kind.BETTING),       // 첫 번째 베팅 라운드
+    DEAL_4TH_STREET(Kind.DEAL_OPEN),               // 4번째 카드(오픈) 배분
+    SECOND_BETTING_ROUND_START(Kind.BETTING),      // 두 번째 베팅 라운드
+    DEAL_5TH_STREET(Kind.DEAL_OPEN),               // 5번째 카드(오픈) 배분
+    THIRD_BETTING_ROUND_START(Kind.BETTING),       // 세 번째 베팅 라운드
+    DEAL_6TH_STREET(Kind.DEAL_OPEN),               // 6번째 카드(오픈) 배분
+    FOURTH_BETTING_ROUND_START(Kind.BETTING),      // 네 번째 베팅 라운드
+    DEAL_7TH_STREET(Kind.DEAL_HIDDEN),             // 7번째 카드(히든) 배분
+    FIFTH_BETTING_ROUND_START(Kind.BETTING),       // 다섯 번째 베팅 라운드
+    SHOWDOWN_PHASE(Kind.SHOWDOWN),                 // 쇼다운
+    GAME_OVER(Kind.END);                           // 게임 종료
+
+    //단계 종류
+    public enum Kind { DEAL_INITIAL, DEAL_OPEN, DEAL_HIDDEN, SELECTION, BETTING, SHOWDOWN, END }
+
+    private static final GamePhase[] VALUES = values();
+    private static final GamePhase[] NEXT = new GamePhase[VALUES.length];
+
+    static {
+        //전이 테이블: 각 단계는 정의 순서상 다음 단계로, 게임 종료는 그대로 유지
+        for (GamePhase phase : VALUES) {
+            NEXT[phase.ordinal()] = phase == GAME_OVER ? GAME_OVER : VALUES[phase.ordinal() + 1];
+        }
+    }
+
+    private final Kind kind;
+
+    GamePhase(Kind kind) {
+        this.kind = kind;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    //다음 단계 (베팅 라운드 종료, 카드 배분 완료 후)
+    public GamePhase getNext() {
+        return NEXT[ordinal()];
+    }
+
+    //GameManager 라운드 상수 값
+    public int getRound() {
+        return ordinal();
+    }
+
+    //라운드 상수 값으로 단계 조회
+    public static GamePhase ofRound(int round) {
+        return VALUES[round];
+    }
+
+    //베팅 라운드 번호 (1~5, 베팅 단계가 아니면 0)
+    public int getBettingRoundNumber() {
+        return kind == Kind.BETTING ? (ordinal() / 2) : 0;
+    }
+}
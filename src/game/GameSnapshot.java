@@ -0,0 +1,157 @@
+package game;
+
+import card.Card;
+import player.Player;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//GameManager 한 테이블의 전체 상태를 담은 바이너리 스냅샷 (약 100바이트)
+//덱은 판 시드 + 뽑은 장 수, 판단용 난수는 사용 횟수만 저장하고 복원 시 다시 진행 (한 판 기준이라 수 마이크로초)
+//크래시 후 이어하기(toBytes/fromBytes)와 AI 탐색용 상태 복제(restoreNew)에 사용
+//리스너와 GUI 선택 중인 카드(selected*), 테이블 설정(좌석 전략, 판단 제한 시간, 테이블 번호, 덱 난수 생성기)은 저장하지 않음
+public final class GameSnapshot {
+
+    private static final int MAGIC = 0x50534E47; // "GNSP"
+    private static final short VERSION = 3; // 2: 코인 금액 long, 3: 판단 난수 사용 횟수 int
+    private static final int MAX_SIZE = 128;
+    private static final byte NO_CARD = -1;
+    private static final byte NO_SEAT = -1;
+
+    private final byte[] data;
+
+    private GameSnapshot(byte[] data) {
+        this.data = data;
+    }
+
+    //현재 상태 저장
+    public static GameSnapshot capture(GameManager manager) {
+        ByteBuffer out = ByteBuffer.allocate(MAX_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putShort(VERSION);
+        out.putLong(manager.getSessionSeed());
+        out.putLong(manager.getHandNumber());
+        out.put((byte) manager.getDeck().getDrawnCount());
+        out.putInt(manager.getDecisionDraws());
+        out.put((byte) manager.getPhase().ordinal());
+        out.put(flags(manager.isBettingRoundStarted(), manager.isUserDiscardCompleted(),
+                manager.isUserOpenCompleted(), manager.isGameTrulyOverNoMoney()));
+        out.put(seatOf(manager, manager.getCurrentPlayer()));
+
+        BettingSystem betting = manager.getBettingSystem();
+        out.putLong(betting.getPot()).putLong(betting.getCurrentBet()).putInt(betting.getCheckCount());
+        out.put((byte) betting.getRaiseCount(manager.getUser()));
+        out.put((byte) betting.getRaiseCount(manager.getComputer()));
+
+        writePlayer(out, manager.getUser());
+        writePlayer(out, manager.getComputer());
+        return new GameSnapshot(Arrays.copyOf(out.array(), out.position()));
+    }
+
+    //저장한 상태를 manager에 덮어씀 (리스너는 그대로, 알림 없음 - 이어서 진행하려면 manager.resume())
+    public void restore(GameManager manager) {
+        ByteBuffer in = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        if (in.getInt() != MAGIC || in.getShort() != VERSION) {
+            throw new IllegalArgumentException("게임 스냅샷 형식이 아닙니다.");
+        }
+        long sessionSeed = in.getLong();
+        long handNumber = in.getLong();
+        int deckDrawn = in.get();
+        int decisionDraws = in.getInt();
+        GamePhase phase = GamePhase.ofRound(in.get());
+        int flags = in.get();
+        int currentSeat = in.get();
+
+        long pot = in.getLong();
+        long currentBet = in.getLong();
+        int checkCount = in.getInt();
+        int userRaises = in.get();
+        int computerRaises = in.get();
+
+        readPlayer(in, manager.getUser());
+        readPlayer(in, manager.getComputer());
+        manager.getBettingSystem().restore(pot, currentBet, checkCount, userRaises, computerRaises);
+        Player current = currentSeat == 0 ? manager.getUser() : currentSeat == 1 ? manager.getComputer() : null;
+        manager.restoreFlow(sessionSeed, handNumber, deckDrawn, decisionDraws, phase,
+                (flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, (flags & 8) != 0, current);
+    }
+
+    //저장한 상태로 새 GameManager 생성 (리스너 없음, 테이블 설정은 기본값 - 원래 설정으로 복제하려면 restoreNew(source))
+    public GameManager restoreNew() {
+        return restoreNew(null);
+    }
+
+    //저장한 상태로 새 GameManager 생성, 테이블 설정은 settings에서 복사 (리스너 없음, 탐색용 복제, settings가 null이면 기본값)
+    public GameManager restoreNew(GameManager settings) {
+        GameManager manager = new GameManager(0L, settings != null ? settings.getDeckRandom() : null);
+        if (settings != null) manager.copySettings(settings);
+        restore(manager);
+        return manager;
+    }
+
+    public byte[] toBytes() {
+        return data.clone();
+    }
+
+    public static GameSnapshot fromBytes(byte[] bytes) {
+        return new GameSnapshot(bytes.clone());
+    }
+
+    public int size() {
+        return data.length;
+    }
+
+    //코인, 베팅 상태, 버린 카드, 히든 카드, 패(받은 순서), 오픈카드(공개 순서)
+    private static void writePlayer(ByteBuffer out, Player player) {
+        out.putLong(player.getCoin()).putLong(player.getCurrentBet());
+        out.put(flags(player.isFolded(), player.hasActedThisRound(), false, false));
+        out.put(codeOf(player.getDiscardedCard()));
+        out.put(codeOf(player.getLastHiddenCard()));
+        writeCards(out, player.getHand());
+        writeCards(out, player.getOpenCards());
+    }
+
+    private static void readPlayer(ByteBuffer in, Player player) {
+        long coin = in.getLong();
+        long currentBet = in.getLong();
+        int flags = in.get();
+        Card discarded = cardOf(in.get());
+        Card lastHidden = cardOf(in.get());
+        List<Card> hand = readCards(in);
+        List<Card> openCards = readCards(in);
+        player.restoreCards(hand, openCards, lastHidden, discarded);
+        player.restoreBetting(coin, currentBet, (flags & 1) != 0, (flags & 2) != 0);
+    }
+
+    private static void writeCards(ByteBuffer out, List<Card> cards) {
+        out.put((byte) cards.size());
+        for (Card card : cards) out.put((byte) card.getCode());
+    }
+
+    private static List<Card> readCards(ByteBuffer in) {
+        int count = in.get();
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) cards.add(Card.fromCode(in.get()));
+        return cards;
+    }
+
+    private static byte flags(boolean b0, boolean b1, boolean b2, boolean b3) {
+        return (byte) ((b0 ? 1 : 0) | (b1 ? 2 : 0) | (b2 ? 4 : 0) | (b3 ? 8 : 0));
+    }
+
+    private static byte seatOf(GameManager manager, Player player) {
+        if (player == manager.getUser()) return 0;
+        if (player == manager.getComputer()) return 1;
+        return NO_SEAT;
+    }
+
+    private static byte codeOf(Card card) {
+        return card == null ? NO_CARD : (byte) card.getCode();
+    }
+
+    private static Card cardOf(int code) {
+        return code == NO_CARD ? null : Card.fromCode(code);
+    }
+}
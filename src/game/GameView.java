@@ -0,0 +1,146 @@
+package game;
+
+import card.Card;
+import player.Player;
+
+import java.util.List;
+
+//Strategy에 넘기는 한 좌석 기준 읽기 전용 게임 상태 (GameManager가 좌석마다 하나씩 만들어 재사용)
+//상대 패는 오픈카드만 보이고, 카드 목록은 복사본, 나머지는 현재 값을 바로 읽음
+//판단용 난수(nextRandom/nextSeed)만 테이블 난수를 진행시킴 (같은 판 시드면 같은 판단)
+public final class GameView {
+
+    private final GameManager manager;
+    private final Player player;
+    private final long[] amounts = new long[BetAction.values().length];
+
+    GameView(GameManager manager, Player player) {
+        this.manager = manager;
+        this.player = player;
+    }
+
+    public GamePhase getPhase() {
+        return manager.getPhase();
+    }
+
+    //현재 베팅 라운드 번호 (1~5, 베팅 단계가 아니면 0)
+    public int getBettingRound() {
+        return manager.getPhase().getBettingRoundNumber();
+    }
+
+    //내 패 (히든 포함, 받은 순서)
+    public List<Card> getHand() {
+        return player.getHand();
+    }
+
+    public long getHandMask() {
+        return player.getHandMask();
+    }
+
+    public List<Card> getOpenCards() {
+        return player.getOpenCards();
+    }
+
+    public long getOpenMask() {
+        return player.getOpenMask();
+    }
+
+    public Card getDiscardedCard() {
+        return player.getDiscardedCard();
+    }
+
+    public List<Card> getOpponentOpenCards() {
+        return opponent().getOpenCards();
+    }
+
+    public long getOpponentOpenMask() {
+        return opponent().getOpenMask();
+    }
+
+    //오픈카드 중 최고 랭크
+    public int getHighestOpenRank() {
+        return player.getOpenState().getHighestRank();
+    }
+
+    //오픈카드 부분 족보 강도 (OpenBoardTable)
+    public int getOpenStrength() {
+        return OpenBoardTable.strength(player.getOpenState());
+    }
+
+    public int getOpponentOpenStrength() {
+        return OpenBoardTable.strength(opponent().getOpenState());
+    }
+
+    public long getCoin() {
+        return player.getCoin();
+    }
+
+    public long getOpponentCoin() {
+        return opponent().getCoin();
+    }
+
+    public long getPot() {
+        return manager.getBettingSystem().getPot();
+    }
+
+    //이번 라운드 기준 베팅액
+    public long getTableBet() {
+        return manager.getBettingSystem().getCurrentBet();
+    }
+
+    //이번 라운드에 내가 낸 코인
+    public long getCommitted() {
+        return player.getCurrentBet();
+    }
+
+    public long getAmountToCall() {
+        return Math.max(0L, getTableBet() - getCommitted());
+    }
+
+    //이번 라운드에 행동했는지
+    public boolean hasActed() {
+        return player.hasActedThisRound();
+    }
+
+    public boolean hasOpponentActed() {
+        return opponent().hasActedThisRound();
+    }
+
+    //이번 라운드 레이즈 횟수
+    public int getRaiseCount() {
+        return manager.getBettingSystem().getRaiseCount(player);
+    }
+
+    public int getOpponentRaiseCount() {
+        return manager.getBettingSystem().getRaiseCount(opponent());
+    }
+
+    public boolean canRaise() {
+        return manager.getBettingSystem().canRaise(player);
+    }
+
+    //가능한 베팅 행동 비트마스크 (BetAction.bit())
+    public int getLegalActions() {
+        return manager.getBettingSystem().legalActions(player, null);
+    }
+
+    //행동에 낼 코인 (불가능한 행동이면 0)
+    public long getActionAmount(BetAction action) {
+        manager.getBettingSystem().legalActions(player, amounts);
+        return amounts[action.ordinal()];
+    }
+
+    //테이블 판단용 난수 [0, 1)
+    public double nextRandom() {
+        return manager.nextRandom();
+    }
+
+    //테이블 판단용 난수 시드 (표본 추출 등)
+    public long nextSeed() {
+        return manager.nextSeed();
+    }
+
+    private Player opponent() {
+        return manager.getOpponent(player);
+    }
+}
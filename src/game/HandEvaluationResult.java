@@ -1,19 +1,31 @@
 package game;
 
 import card.Card;
+import card.Card.Suit;
 import java.util.List; // 추가
 import java.util.ArrayList; // 추가
 
 public class HandEvaluationResult {
 	
     private final HandRank handRank;
-    private final List<Card> determiningCards; // 족보를 결정한 카드
+    private final int strength;           // 족보 강도: HandRank 값 << 20 | 결정 카드 랭크 5개 (4비트씩)
+    private final Card[] sourceCards;     // 결정 카드를 지연 생성할 때 사용할 원본 카드
+    private List<Card> determiningCards;  // 족보를 결정한 카드 (처음 요청될 때 생성)
                                           
 
     public HandEvaluationResult(HandRank handRank, List<Card> determiningCards) {
         this.handRank = handRank;
         //determiningCards가 null일 경우 빈 리스트로 초기화
         this.determiningCards = (determiningCards != null) ? new ArrayList<>(determiningCards) : new ArrayList<>();
+        this.strength = packStrength(handRank, this.determiningCards);
+        this.sourceCards = null;
+    }
+
+    //족보 강도만 계산된 결과 (결정 카드는 GUI/기록에서 요청할 때 원본 카드로부터 생성)
+    HandEvaluationResult(int strength, List<Card> sourceCards) {
+        this.handRank = SevenCardEvaluator.handRankOf(strength);
+        this.strength = strength;
+        this.sourceCards = sourceCards.toArray(new Card[0]);
     }
     
     //handRank 반환
@@ -21,36 +33,69 @@ public class HandEvaluationResult {
     	return handRank;
     	}
 
+    //족보 강도 반환 (큰 값이 더 강한 패)
+    public int getStrength() {
+    	return strength;
+    	}
+
     //족보를 결정하는 주요 카드 리스트를 반환
     public List<Card> getDeterminingCards() {
-    	return new ArrayList<>(determiningCards);
+    	return new ArrayList<>(determiningCards());
     	}
 
     //족보를 대표하는 가장 높은 카드를 반환     
     public Card getHighCard() {
-        return determiningCards.isEmpty() ? null : determiningCards.get(0);
+        List<Card> cards = determiningCards();
+        return cards.isEmpty() ? null : cards.get(0);
     }
 
     //족보 설명을 위한 문자열
     public String getHighCardDescription() {
-        if (determiningCards.isEmpty()) return "";    
-        return determiningCards.get(0).toString();
+        List<Card> cards = determiningCards();
+        if (cards.isEmpty()) return "";    
+        return cards.get(0).toString();
     }
 
-    //족보 결과 비교
+    //족보 결과 비교 (족보 강도 정수 비교)
     public static int compare(HandEvaluationResult res1, HandEvaluationResult res2) {
-        if (res1.getHandRank().getRankValue() != res2.getHandRank().getRankValue()) {
-            return Integer.compare(res1.getHandRank().getRankValue(), res2.getHandRank().getRankValue());
+        return Integer.compare(res1.strength, res2.strength);
+    }
+
+    //족보와 결정 카드 랭크(앞 5장)를 정수 하나로 압축
+    static int packStrength(HandRank handRank, List<Card> cards) {
+        int packed = handRank.getRankValue() << 20;
+        for (int i = 0; i < Math.min(5, cards.size()); i++) {
+            packed |= cards.get(i).getRank() << (4 * (4 - i));
+        }
+        return packed;
+    }
+
+    private List<Card> determiningCards() {
+        if (determiningCards == null) determiningCards = buildDeterminingCards();
+        return determiningCards;
+    }
+
+    //족보 강도의 랭크 순서대로 원본 카드에서 실제 카드를 골라 결정 카드 리스트 구성
+    private List<Card> buildDeterminingCards() {
+        Suit flushSuit = null;
+        if (handRank == HandRank.FLUSH || handRank == HandRank.STRAIGHT_FLUSH) {
+            int[] suitCounts = new int[Suit.values().length];
+            for (Card card : sourceCards) {
+                if (++suitCounts[card.getSuit().ordinal()] >= 5) flushSuit = card.getSuit();
+            }
         }
-        // 족보가 같으면 determiningCards로 비교
-        List<Card> cards1 = res1.getDeterminingCards();
-        List<Card> cards2 = res2.getDeterminingCards();
-        for (int i = 0; i < Math.min(cards1.size(), cards2.size()); i++) {
-            if (cards1.get(i).getRank() != cards2.get(i).getRank()) {
-                return Integer.compare(cards1.get(i).getRank(), cards2.get(i).getRank());
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int rank = SevenCardEvaluator.rankAt(strength, i);
+            if (rank == 0) continue;
+            for (Card card : sourceCards) {
+                if (card.getRank() == rank && (flushSuit == null || card.getSuit() == flushSuit)
+                        && !cards.contains(card)) {
+                    cards.add(card);
+                    break;
+                }
             }
-            // 랭크가 같으면 슈트는 일반적으로 비교하지 않지만, 게임 규칙에 따라 추가 가능
         }
-        return 0; // 완전히 동일
+        return cards;
     }
-}
\ No newline at end of file
+}
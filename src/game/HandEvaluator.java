@@ -1,7 +1,11 @@
 package game;
 
 import card.Card;
+import card.CardMask;
+import card.HandState;
 import card.Card.Suit; // Card 클래스 내부의 Suit enum 사용
+import metrics.EngineMetrics;
+import metrics.HandEvaluationEvent;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -18,40 +22,42 @@ public class HandEvaluator {
     private static final int TWO_RANK = 2;     // 2 (A-5 스트레이트 확인용)
 
 
-    //7장의 카드 전체에서 가장 좋은 5장의 조합으로 족보를 평가    
+    //7장의 카드 전체에서 가장 좋은 5장의 조합으로 족보를 평가 (SevenCardEvaluator 룩업 테이블 사용)
     public static HandEvaluationResult evaluateHand(List<Card> sevenCards) {
         if (sevenCards == null || sevenCards.size() != 7) {
             throw new IllegalArgumentException("7장의 카드가 필요합니다.");
         }
+        // 결정 카드 리스트는 GUI/기록에서 요청할 때 생성
+        return new HandEvaluationResult(evaluateHandStrength(sevenCards), sevenCards);
+    }
 
-        // 7장의 카드에서 5장을 선택하는 모든 가능한 조합
-        List<List<Card>> allFiveCardCombinations = new ArrayList<>();
-        generateCombinations(sevenCards, 5, 0, new ArrayList<>(), allFiveCardCombinations);
-
-        HandEvaluationResult bestResult = null; // 가장 좋은 족보 결과를 저장할 변수
+    //7장의 카드 족보 강도(정수)만 계산 (객체 생성 없음)
+    public static int evaluateHandStrength(List<Card> sevenCards) {
+        long start = EngineMetrics.startEvaluation();
+        HandEvaluationEvent event = new HandEvaluationEvent();
+        event.begin();
+        int strength = SevenCardEvaluator.evaluate(CardMask.of(sevenCards));
+        EngineMetrics.recordEvaluation(start);
+        commitEvaluationEvent(event, strength);
+        return strength;
+    }
 
-        // 모든 5장 조합에 대해 족보를 평가하고 가장 높은 족보
-        for (List<Card> fiveCardHand : allFiveCardCombinations) {
-            HandEvaluationResult currentResult = evaluate5CardHand(fiveCardHand);
-            // 현재 조합의 족보가 이전에 찾은 최상의 족보보다 높으면 교체
-            if (bestResult == null || HandEvaluationResult.compare(currentResult, bestResult) > 0) {
-                bestResult = currentResult;
-            }
-        }
-        return bestResult;
+    //증분 패 상태로 7장 족보 강도 계산
+    public static int evaluateHandStrength(HandState state) {
+        long start = EngineMetrics.startEvaluation();
+        HandEvaluationEvent event = new HandEvaluationEvent();
+        event.begin();
+        int strength = SevenCardEvaluator.evaluate(state.getMask());
+        EngineMetrics.recordEvaluation(start);
+        commitEvaluationEvent(event, strength);
+        return strength;
     }
 
-    //주어진 카드 리스트에서 k(5)개의 카드를 선택하는 모든 조합을 생성 
-    private static void generateCombinations(List<Card> allCards, int k, int start,
-                                             List<Card> currentCombination, List<List<Card>> combinations) {
-        if (k == 0) { // k개의 카드를 모두 선택한 경우
-            combinations.add(new ArrayList<>(currentCombination)); // 현재 조합을 결과 리스트에 추가
-            return;
-        }
-        for (int i = start; i <= allCards.size() - k; i++) {
-            currentCombination.add(allCards.get(i)); // 카드 선택
-            generateCombinations(allCards, k - 1, i + 1, currentCombination, combinations); // 다음 카드 선택
-            currentCombination.remove(currentCombination.size() - 1); // 선택했던 카드 되돌리기
+    //JFR 평가 이벤트 (기록 중이 아니면 필드 설정 없이 버림)
+    private static void commitEvaluationEvent(HandEvaluationEvent event, int strength) {
+        if (event.shouldCommit()) {
+            event.strength = strength;
+            event.commit();
         }
     }
 
@@ -76,7 +82,7 @@ public class HandEvaluator {
         //스트레이트 플러시 (로얄 플러시 포함)
         if (isStraight && isFlush) {        
             if (sortedCards.get(0).getRank() == ACE_RANK &&
-                sortedCards.get(4).getRank() == FIVE_RANK &&
+                sortedCards.get(1).getRank() == FIVE_RANK &&
                 sortedCards.stream().anyMatch(c -> c.getRank() == 4) && // 4가 있는지 확인 (A,2,3,4,5 구성 확인)
                 sortedCards.stream().anyMatch(c -> c.getRank() == 3) &&
                 sortedCards.stream().anyMatch(c -> c.getRank() == TWO_RANK) &&
@@ -153,7 +159,7 @@ public class HandEvaluator {
         if (isStraight) {
             // A-5 스트레이트 플러시 조건 확인
             if (sortedCards.get(0).getRank() == ACE_RANK && //A 유무 확인(가장 큰 카드)
-                sortedCards.get(4).getRank() == FIVE_RANK &&//5 유무 확인(가장 작은 카드)
+                sortedCards.get(1).getRank() == FIVE_RANK &&//5 유무 확인(A 다음 카드)
                 sortedCards.stream().anyMatch(c -> c.getRank() == 4) && //4 유무 확인
                 sortedCards.stream().anyMatch(c -> c.getRank() == 3) &&//3 유무 확인
                 sortedCards.stream().anyMatch(c -> c.getRank() == TWO_RANK) &&//2유무 확인
@@ -245,8 +251,26 @@ public class HandEvaluator {
     }
 
 
-    //2~4장의 오픈 카드만으로 부분 족보를 평가 (베팅 순서 결정)
+    //2~4장의 오픈 카드만으로 부분 족보를 평가 (베팅 순서 결정) - 4장 이하는 OpenBoardTable 조회
     public static HandEvaluationResult evaluatePartialHand(List<Card> openCards) {
+        if (openCards == null || openCards.size() > OpenBoardTable.MAX_OPEN_CARDS) {
+            return scorePartialHand(openCards);
+        }
+        // 랭크 오름차순 키 구성 (삽입 정렬, 최대 4장)
+        long rankKey = 0L;
+        for (int n = 0; n < openCards.size(); n++) {
+            int rank = openCards.get(n).getRank();
+            int i = 0;
+            while (i < n && ((rankKey >>> (4 * i)) & 0xF) < rank) i++;
+            long lowMask = (1L << (4 * i)) - 1;
+            rankKey = (rankKey & lowMask) | ((long) rank << (4 * i)) | ((rankKey & ~lowMask) << 4);
+        }
+        // 결정 카드 리스트는 요청할 때 생성
+        return new HandEvaluationResult(OpenBoardTable.strength(rankKey, openCards.size()), openCards);
+    }
+
+    //부분 족보 평가 규칙 (OpenBoardTable 생성 및 5장 이상 입력에 사용)
+    static HandEvaluationResult scorePartialHand(List<Card> openCards) {
         if (openCards == null || openCards.isEmpty()) {
             return new HandEvaluationResult(HandRank.HIGH_CARD, new ArrayList<>()); // 카드가 없으면 하이
         }
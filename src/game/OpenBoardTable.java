@@ -0,0 +1,82 @@
+package game;
+
+import card.Card;
+import card.HandState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//오픈카드(0~4장) 부분 족보 강도 룩업 테이블
+//부분 족보는 문양과 무관하므로 랭크 조합(중복 조합)만으로 색인: 0~4장 전체 2380개
+//테이블은 클래스 로딩 시 HandEvaluator의 기존 부분 족보 평가 규칙으로 생성
+public final class OpenBoardTable {
+
+    public static final int MAX_OPEN_CARDS = 4;
+    private static final int RANK_COUNT = 13;
+
+    //중복 조합 색인용 이항계수: BINOM[i][d] = C(d + i, i + 1)
+    private static final int[][] BINOM = new int[MAX_OPEN_CARDS][RANK_COUNT];
+    //장수별 색인 시작 위치 (0장 1개, 1장 13개, 2장 91개, 3장 455개, 4장 1820개)
+    private static final int[] OFFSET = new int[MAX_OPEN_CARDS + 2];
+    private static final int[] STRENGTH;
+
+    static {
+        for (int i = 0; i < MAX_OPEN_CARDS; i++)
+            for (int d = 0; d < RANK_COUNT; d++) BINOM[i][d] = binomial(d + i, i + 1);
+        for (int k = 0; k <= MAX_OPEN_CARDS; k++) OFFSET[k + 1] = OFFSET[k] + binomial(RANK_COUNT + k - 1, k);
+
+        STRENGTH = new int[OFFSET[MAX_OPEN_CARDS + 1]];
+        int[] digits = new int[MAX_OPEN_CARDS];
+        for (int size = 0; size <= MAX_OPEN_CARDS; size++) fill(digits, 0, size, 0);
+    }
+
+    private OpenBoardTable() {
+    }
+
+    //오픈카드 상태의 부분 족보 강도 (HandEvaluator.evaluatePartialHand와 동일한 값)
+    public static int strength(HandState openState) {
+        return STRENGTH[index(openState.getRankKey(), openState.size())];
+    }
+
+    //정렬된 랭크 키(HandState.getRankKey 형식)와 장수로 부분 족보 강도 조회
+    public static int strength(long rankKey, int size) {
+        return STRENGTH[index(rankKey, size)];
+    }
+
+    private static int index(long rankKey, int size) {
+        if (size > MAX_OPEN_CARDS) throw new IllegalArgumentException("오픈카드는 최대 " + MAX_OPEN_CARDS + "장입니다.");
+        int index = OFFSET[size];
+        for (int i = 0; i < size; i++) {
+            index += BINOM[i][(int) (rankKey >>> (4 * i) & 0xF) - 2];
+        }
+        return index;
+    }
+
+    //랭크 오름차순 중복 조합을 모두 만들어 기존 평가 규칙으로 강도 계산
+    private static void fill(int[] digits, int position, int size, int minDigit) {
+        if (position == size) {
+            List<Card> cards = new ArrayList<>(size);
+            long rankKey = 0L;
+            for (int i = 0; i < size; i++) {
+                int rank = digits[i] + 2;
+                int sameBefore = 0; // 같은 랭크는 서로 다른 문양으로 구성
+                for (int j = 0; j < i; j++) if (digits[j] == digits[i]) sameBefore++;
+                cards.add(Card.of(Card.Suit.values()[sameBefore], rank));
+                rankKey |= (long) rank << (4 * i);
+            }
+            STRENGTH[index(rankKey, size)] = HandEvaluator.scorePartialHand(cards).getStrength();
+            return;
+        }
+        for (int d = minDigit; d < RANK_COUNT; d++) {
+            digits[position] = d;
+            fill(digits, position + 1, size, d);
+        }
+    }
+
+    private static int binomial(int n, int k) {
+        if (k < 0 || k > n) return 0;
+        long result = 1;
+        for (int i = 1; i <= k; i++) result = result * (n - k + i) / i;
+        return (int) result;
+    }
+}
@@ -0,0 +1,64 @@
+package game;
+
+import card.Card;
+
+import java.util.Comparator;
+import java.util.List;
+
+//기본 규칙 봇 (계산이 거의 없어 마감과 무관)
+//버리기: 제일 앞 카드, 오픈: 가장 높은 랭크, 베팅: 오픈카드 최고 랭크와 오픈 족보 비교 + 확률
+public final class RuleBasedStrategy implements Strategy {
+
+    public static final RuleBasedStrategy INSTANCE = new RuleBasedStrategy();
+
+    private RuleBasedStrategy() {
+    }
+
+    @Override
+    public Card chooseDiscard(GameView view, long deadlineNanos) {
+        return view.getHand().get(0); // 제일 앞 카드 단순 discard
+    }
+
+    @Override
+    public Card chooseOpen(GameView view, long deadlineNanos) {
+        List<Card> hand = view.getHand();
+        return hand.stream().max(Comparator.comparingInt(Card::getRank)).orElse(null);
+    }
+
+    @Override
+    public BetAction chooseBet(GameView view, long deadlineNanos) {
+        //패 인식 후 베팅 방향 결정 (오픈카드 족보는 OpenBoardTable 조회)
+        boolean isStrong = view.getHighestOpenRank() >= 10;
+        boolean isBehind = view.getOpenStrength() < view.getOpponentOpenStrength();
+        double rand = view.nextRandom(); // 테이블별 난수 (공유 Math.random 경합 없음)
+
+        //선 턴일 경우 처리 로직
+        if (view.getTableBet() == 0) {
+            //패가 강하다고 인식할 경우: 75% 확률로 레이즈 시도
+            if (isStrong) {
+                return rand < 0.75 ? BetAction.HALF_RAISE : BetAction.CHECK;
+            }
+            //패가 약하다고 인식할 경우
+            if (isBehind && rand < 0.3) return BetAction.QUARTER_RAISE;
+            return rand < 0.85 ? BetAction.CHECK : BetAction.QUARTER_RAISE;
+        }
+
+        //상대가 베팅한 상황: 레이즈 할 수 없을 경우
+        if (!view.canRaise()) {
+            return isStrong || (!isBehind && rand < 0.8) || (isBehind && rand < 0.3) ? BetAction.CALL : BetAction.FOLD;
+        }
+        //레이즈가 가능할 경우
+        if (isStrong && !isBehind) {
+            return rand < 0.5 ? BetAction.HALF_RAISE : BetAction.CALL;
+        }
+        if (isStrong) {
+            if (rand < 0.3) return BetAction.QUARTER_RAISE;
+            return rand < 0.8 ? BetAction.CALL : BetAction.FOLD;
+        }
+        //패가 약하다고 판단될 경우
+        if (isBehind && rand < 0.85) return BetAction.FOLD;
+        if (!isBehind && rand < 0.6) return BetAction.FOLD;
+        //블러핑
+        return rand < 0.85 ? BetAction.CALL : BetAction.QUARTER_RAISE;
+    }
+}
@@ -0,0 +1,131 @@
+package game;
+
+import card.Card;
+import card.CardMask;
+
+//룩업 테이블 기반 7장 족보 평가 엔진
+//문양별 13비트 랭크 마스크(비트 0 = 2, 비트 12 = A)만으로 족보 강도를 계산 (객체 생성 없음)
+//반환값: HandRank 값 << 20 | 족보 결정 카드 랭크 5개 (4비트씩, 높은 자리부터)
+public final class SevenCardEvaluator {
+
+    private static final int RANK_MASK_SIZE = 1 << 13;
+    private static final int CATEGORY_SHIFT = 20;
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+
+    private static final byte[] BIT_COUNT = new byte[RANK_MASK_SIZE];      // 마스크 내 랭크 개수
+    private static final byte[] TOP_RANK = new byte[RANK_MASK_SIZE];       // 마스크 내 가장 높은 랭크(2~14)
+    private static final int[] TOP_FIVE = new int[RANK_MASK_SIZE];         // 높은 랭크 5개를 4비트씩 압축
+    private static final int[] STRAIGHT = new int[RANK_MASK_SIZE];         // 가장 높은 스트레이트 5장 (없으면 0)
+
+    static {
+        for (int mask = 1; mask < RANK_MASK_SIZE; mask++) {
+            BIT_COUNT[mask] = (byte) Integer.bitCount(mask);
+            TOP_RANK[mask] = (byte) (31 - Integer.numberOfLeadingZeros(mask) + 2);
+
+            int packed = 0;
+            int taken = 0;
+            for (int bit = 12; bit >= 0 && taken < 5; bit--) {
+                if ((mask & (1 << bit)) != 0) {
+                    packed |= (bit + 2) << (4 * (4 - taken));
+                    taken++;
+                }
+            }
+            TOP_FIVE[mask] = packed;
+
+            // 높은 스트레이트부터 확인 (A-K-Q-J-10 ~ 6-5-4-3-2)
+            for (int high = 12; high >= 4; high--) {
+                int run = 0x1F << (high - 4);
+                if ((mask & run) == run) {
+                    STRAIGHT[mask] = pack(high + 2, high + 1, high, high - 1, high - 2);
+                    break;
+                }
+            }
+            // A-5 스트레이트: 5, 4, 3, 2, A 순서 (기존 평가 결과와 동일)
+            if (STRAIGHT[mask] == 0 && (mask & 0x100F) == 0x100F) {
+                STRAIGHT[mask] = pack(5, 4, 3, 2, 14);
+            }
+        }
+    }
+
+    private SevenCardEvaluator() {
+    }
+
+    //카드 비트마스크(CardMask)로 7장 족보 강도 계산
+    public static int evaluate(long cards) {
+        return evaluate(CardMask.suitRanks(cards, Card.Suit.CLUBS), CardMask.suitRanks(cards, Card.Suit.DIAMONDS),
+                CardMask.suitRanks(cards, Card.Suit.HEARTS), CardMask.suitRanks(cards, Card.Suit.SPADES));
+    }
+
+    //문양별 랭크 마스크로 7장(5장 이상) 족보 강도 계산
+    public static int evaluate(int clubs, int diamonds, int hearts, int spades) {
+        // 플러시 (7장에서는 한 문양만 5장 이상 가능, 플러시가 있으면 풀하우스/포카드 불가)
+        int flushMask = BIT_COUNT[clubs] >= 5 ? clubs
+                : BIT_COUNT[diamonds] >= 5 ? diamonds
+                : BIT_COUNT[hearts] >= 5 ? hearts
+                : BIT_COUNT[spades] >= 5 ? spades : 0;
+        if (flushMask != 0) {
+            int straightFlush = STRAIGHT[flushMask];
+            if (straightFlush != 0) return category(HandRank.STRAIGHT_FLUSH) | straightFlush;
+            return category(HandRank.FLUSH) | TOP_FIVE[flushMask];
+        }
+
+        int ranks = clubs | diamonds | hearts | spades;
+
+        // 스트레이트 (서로 다른 5랭크 + 2장으로는 풀하우스/포카드 불가)
+        int straight = STRAIGHT[ranks];
+        if (straight != 0) return category(HandRank.STRAIGHT) | straight;
+
+        int fourMask = clubs & diamonds & hearts & spades;
+        if (fourMask != 0) {
+            int four = TOP_RANK[fourMask];
+            return category(HandRank.FOUR_CARD) | pack(four, four, four, four, 0);
+        }
+
+        int threeMask = ((clubs & diamonds) | (hearts & spades)) & ((clubs & hearts) | (diamonds & spades));
+        int pairMask = ranks ^ (clubs ^ diamonds ^ hearts ^ spades); // 정확히 2장인 랭크 (포카드는 위에서 처리)
+
+        if (threeMask != 0) {
+            int three = TOP_RANK[threeMask];
+            int restThree = threeMask & ~(1 << (three - 2));
+            if (restThree != 0 || pairMask != 0) {
+                // 풀하우스: 남은 트리플과 페어 중 가장 높은 랭크를 페어로 사용
+                int pair = TOP_RANK[restThree | pairMask];
+                return category(HandRank.FULL_HOUSE) | pack(three, three, three, pair, pair);
+            }
+            int kickers = TOP_FIVE[ranks & ~(1 << (three - 2))] >>> 12;
+            return category(HandRank.TRIPS) | pack(three, three, three, 0, 0) | kickers;
+        }
+
+        if (pairMask != 0) {
+            int highPair = TOP_RANK[pairMask];
+            int restPairs = pairMask & ~(1 << (highPair - 2));
+            if (restPairs != 0) {
+                int lowPair = TOP_RANK[restPairs];
+                int kicker = TOP_RANK[ranks & ~(1 << (highPair - 2)) & ~(1 << (lowPair - 2))];
+                return category(HandRank.TWO_PAIR) | pack(highPair, highPair, lowPair, lowPair, kicker);
+            }
+            int kickers = TOP_FIVE[ranks & ~(1 << (highPair - 2))] >>> 8;
+            return category(HandRank.ONE_PAIR) | pack(highPair, highPair, 0, 0, 0) | kickers;
+        }
+
+        return category(HandRank.HIGH_CARD) | TOP_FIVE[ranks];
+    }
+
+    //족보 강도에서 HandRank 추출
+    public static HandRank handRankOf(int strength) {
+        return HAND_RANKS[(strength >>> CATEGORY_SHIFT) - 1];
+    }
+
+    //족보 강도에서 i번째(0~4) 결정 카드 랭크 추출 (없으면 0)
+    public static int rankAt(int strength, int index) {
+        return (strength >>> (4 * (4 - index))) & 0xF;
+    }
+
+    private static int category(HandRank handRank) {
+        return handRank.getRankValue() << CATEGORY_SHIFT;
+    }
+
+    private static int pack(int r0, int r1, int r2, int r3, int r4) {
+        return (r0 << 16) | (r1 << 12) | (r2 << 8) | (r3 << 4) | r4;
+    }
+}
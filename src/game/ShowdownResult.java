@@ -0,0 +1,57 @@
+package game;
+
+import player.Player;
+
+//한 판의 결과 (승자, 폴드한 플레이어, 양쪽 족보 평가)
+//결과 문자열은 getMessage()를 호출할 때만 생성
+public class ShowdownResult {
+
+    private final GameManager manager;
+    private final Player winner;
+    private final Player foldedPlayer;                 // 폴드로 끝났으면 폴드한 플레이어, 아니면 null
+    private final HandEvaluationResult userResult;     // 폴드로 끝났으면 null
+    private final HandEvaluationResult computerResult;
+
+    ShowdownResult(GameManager manager, Player winner, Player foldedPlayer,
+                   HandEvaluationResult userResult, HandEvaluationResult computerResult) {
+        this.manager = manager;
+        this.winner = winner;
+        this.foldedPlayer = foldedPlayer;
+        this.userResult = userResult;
+        this.computerResult = computerResult;
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    public Player getFoldedPlayer() {
+        return foldedPlayer;
+    }
+
+    public boolean isFold() {
+        return foldedPlayer != null;
+    }
+
+    public HandEvaluationResult getUserResult() {
+        return userResult;
+    }
+
+    public HandEvaluationResult getComputerResult() {
+        return computerResult;
+    }
+
+    //결과 안내 문자열
+    public String getMessage() {
+        if (foldedPlayer == manager.getUser()) {
+            return manager.getPlayerName(winner) + " 승리! (유저가 폴드했습니다!)";
+        }
+        if (foldedPlayer == manager.getComputer()) {
+            return manager.getPlayerName(winner) + " 승리! (컴퓨터가 폴드했습니다!)";
+        }
+        String userInfo = String.format("%s: %s (패: %s)", manager.getPlayerName(manager.getUser()), userResult.getHandRank(), userResult.getDeterminingCards());
+        String computerInfo = String.format("%s: %s (패: %s)", manager.getPlayerName(manager.getComputer()), computerResult.getHandRank(), computerResult.getDeterminingCards());
+        String winnerText = manager.getPlayerName(winner) + " 승리!";
+        return userInfo + "\n" + computerInfo + "\n\n" + winnerText;
+    }
+}
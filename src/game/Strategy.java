@@ -0,0 +1,31 @@
+package game;
+
+import card.Card;
+
+//봇 판단 SPI: 카드 버리기, 오픈, 베팅 (GameManager.setStrategy로 좌석마다 지정, 기본은 RuleBasedStrategy)
+//view: 자기 좌석 기준 읽기 전용 상태, deadlineNanos: System.nanoTime() 기준 마감 (NO_DEADLINE이면 제한 없음)
+//마감이 되면 그때까지 찾은 가장 좋은 답을 바로 반환 (엔진이 끊지 않으므로 마감을 지키는 것은 구현 책임)
+//잘못된 카드(null, 패에 없는 카드)는 기본 규칙으로, 불가능한 베팅 행동은 콜 -> 체크 -> 폴드 순으로 대체
+public interface Strategy {
+
+    long NO_DEADLINE = Long.MAX_VALUE;
+
+    //처음 받은 4장 중 버릴 카드
+    Card chooseDiscard(GameView view, long deadlineNanos);
+
+    //버리고 남은 3장 중 오픈할 카드
+    Card chooseOpen(GameView view, long deadlineNanos);
+
+    //베팅 행동 (view.getLegalActions()에 포함된 행동)
+    BetAction chooseBet(GameView view, long deadlineNanos);
+
+    //마감 지남 여부
+    static boolean isExpired(long deadlineNanos) {
+        return deadlineNanos != NO_DEADLINE && System.nanoTime() - deadlineNanos > 0;
+    }
+
+    //마감까지 남은 시간, EquityCalculator의 timeBudgetNanos 형식 (제한 없으면 0, 지났으면 1)
+    static long remainingNanos(long deadlineNanos) {
+        return deadlineNanos == NO_DEADLINE ? 0L : Math.max(1L, deadlineNanos - System.nanoTime());
+    }
+}
@@ -0,0 +1,69 @@
+package history;
+
+import java.nio.file.Path;
+
+//핸드 히스토리 바이너리 형식 (고정 길이 레코드, 리틀 엔디언)
+//세그먼트 파일 = 헤더 64바이트 + 레코드 256바이트 * 레코드 용량
+//헤더의 레코드 수는 판이 끝날 때마다 갱신되므로, 기록 중인(끝나지 않은) 판은 읽지 않음
+//코인 금액 필드는 int, int 범위를 넘는 금액은 Integer.MAX_VALUE로 고정해 기록
+public final class HandHistoryFormat {
+
+    public static final int MAGIC = 0x48485053;           // "SPHH"
+    public static final short VERSION = 1;
+    public static final String SEGMENT_SUFFIX = ".hh";
+
+    //세그먼트 헤더
+    public static final int HEADER_SIZE = 64;
+    public static final int HEADER_MAGIC = 0;             // int
+    public static final int HEADER_VERSION = 4;           // short
+    public static final int HEADER_RECORD_SIZE = 6;       // short
+    public static final int HEADER_CAPACITY = 8;          // int 레코드 용량
+    public static final int HEADER_COUNT = 12;            // int 완료된 레코드 수
+    public static final int HEADER_CREATED_MILLIS = 16;   // long
+    public static final int HEADER_SEGMENT_INDEX = 24;    // int
+
+    //레코드 (한 판)
+    public static final int RECORD_SIZE = 256;
+    public static final int SEED = 0;                     // long 판 덱 시드
+    public static final int WINNER = 8;                   // byte 승자 자리
+    public static final int FOLDED = 9;                   // byte 폴드한 자리 (없으면 NO_SEAT)
+    public static final int ACTION_COUNT = 10;            // byte 기록된 베팅 행동 수
+    public static final int FLAGS = 11;                   // byte
+    public static final int USER_CARDS = 12;              // byte[8] 버린 카드, 받은 순서의 패 (카드 코드, 없으면 NO_CARD)
+    public static final int COMPUTER_CARDS = 20;          // byte[8]
+    public static final int USER_OPEN = 28;               // byte 직접 고른 오픈 카드
+    public static final int COMPUTER_OPEN = 29;           // byte
+    public static final int LAST_ROUND = 30;              // byte 판이 끝난 베팅 라운드 (1~5)
+    public static final int USER_STRENGTH = 32;           // int 7장 족보 강도 (폴드로 끝나면 0)
+    public static final int COMPUTER_STRENGTH = 36;       // int
+    public static final int POT_AFTER_ROUND = 40;         // int[5] 베팅 라운드 종료 시 팟 (진행하지 않은 라운드는 0)
+    public static final int FINAL_POT = 60;               // int 승자가 받은 팟
+    public static final int ACTIONS = 64;                 // 베팅 행동 MAX_ACTIONS개 * ACTION_SIZE
+    public static final int USER_COIN_AFTER = 224;        // int 판 종료 후 코인
+    public static final int COMPUTER_COIN_AFTER = 228;    // int
+    public static final int ANTE_POT = 232;               // int 앤티 납부 후 팟
+
+    //베팅 행동 (8바이트): 라운드, 자리, BetAction 순서, 예약, 낸 코인
+    public static final int MAX_ACTIONS = 20;
+    public static final int ACTION_SIZE = 8;
+    public static final int ACTION_ROUND = 0;             // byte
+    public static final int ACTION_SEAT = 1;              // byte
+    public static final int ACTION_TYPE = 2;              // byte
+    public static final int ACTION_AMOUNT = 4;            // int
+
+    public static final int BETTING_ROUNDS = 5;
+    public static final int CARDS_PER_SEAT = 8;
+    public static final int SEAT_USER = 0;
+    public static final int SEAT_COMPUTER = 1;
+    public static final byte NO_SEAT = -1;
+    public static final byte NO_CARD = -1;
+    public static final int FLAG_ACTIONS_TRUNCATED = 1;   // MAX_ACTIONS를 넘은 행동은 기록하지 않음
+
+    private HandHistoryFormat() {
+    }
+
+    //세그먼트 파일 경로 (prefix-000000.hh)
+    public static Path segmentPath(Path directory, String prefix, int segmentIndex) {
+        return directory.resolve(String.format("%s-%06d%s", prefix, segmentIndex, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,153 @@
+package history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static history.HandHistoryFormat.*;
+
+//핸드 히스토리 세그먼트를 읽기 전용 메모리 맵으로 열어 집계 (힙으로 복사하지 않음)
+//세그먼트를 레코드 구간으로 나눠 fork/join으로 병렬 집계, 레코드는 HandRecord 뷰로 필요한 필드만 읽음
+//사용법: java history.HandHistoryReader <기록 디렉터리>
+public class HandHistoryReader {
+
+    private static final int CHUNK_RECORDS = 1 << 14; // 작업 하나가 직접 집계하는 레코드 수
+
+    private final ForkJoinPool pool;
+
+    public HandHistoryReader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public HandHistoryReader(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    //디렉터리의 모든 세그먼트(*.hh) 집계
+    public HandHistoryStats aggregate(Path directory) throws IOException {
+        return aggregate(listSegments(directory));
+    }
+
+    //지정한 세그먼트 집계
+    public HandHistoryStats aggregate(List<Path> segments) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        for (Path segment : segments) {
+            ByteBuffer buffer = map(segment);
+            int count = buffer.getInt(HEADER_COUNT);
+            for (int first = 0; first < count; first += CHUNK_RECORDS) {
+                chunks.add(new Chunk(buffer, first, Math.min(count, first + CHUNK_RECORDS)));
+            }
+        }
+        if (chunks.isEmpty()) return new HandHistoryStats();
+        return pool.invoke(new AggregateTask(chunks, 0, chunks.size()));
+    }
+
+    //디렉터리의 모든 레코드를 파일 이름 순서대로 전달 (뷰 객체는 재사용되므로 보관하지 말 것)
+    public void forEach(Path directory, Consumer<HandRecord> action) throws IOException {
+        HandRecord record = new HandRecord();
+        for (Path segment : listSegments(directory)) {
+            ByteBuffer buffer = map(segment);
+            int count = buffer.getInt(HEADER_COUNT);
+            for (int i = 0; i < count; i++) action.accept(record.at(buffer, i));
+        }
+    }
+
+    //디렉터리의 세그먼트 파일 (이름 순)
+    public static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    //헤더 확인 후 완료된 레코드까지만 읽기 전용으로 매핑 (채널을 닫아도 매핑은 유지)
+    private static ByteBuffer map(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) throw new IOException("세그먼트 헤더가 없습니다: " + segment);
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(HEADER_MAGIC) != MAGIC || header.getShort(HEADER_VERSION) != VERSION
+                    || header.getShort(HEADER_RECORD_SIZE) != RECORD_SIZE) {
+                throw new IOException("핸드 히스토리 세그먼트 형식이 아닙니다: " + segment);
+            }
+            int count = header.getInt(HEADER_COUNT);
+            long size = HEADER_SIZE + (long) count * RECORD_SIZE;
+            if (size > channel.size()) throw new IOException("세그먼트가 잘렸습니다: " + segment);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    //세그먼트 안의 레코드 구간 [first, end)
+    private static final class Chunk {
+
+        final ByteBuffer buffer;
+        final int first;
+        final int end;
+
+        Chunk(ByteBuffer buffer, int first, int end) {
+            this.buffer = buffer;
+            this.first = first;
+            this.end = end;
+        }
+    }
+
+    //구간 목록을 절반씩 나눠 병렬 집계하는 작업
+    @SuppressWarnings("serial") // 직렬화하지 않음
+    private static final class AggregateTask extends RecursiveTask<HandHistoryStats> {
+
+        private final List<Chunk> chunks;
+        private final int from;
+        private final int to;
+
+        AggregateTask(List<Chunk> chunks, int from, int to) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected HandHistoryStats compute() {
+            if (to - from == 1) return scan(chunks.get(from));
+            int mid = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(chunks, from, mid);
+            AggregateTask right = new AggregateTask(chunks, mid, to);
+            left.fork();
+            HandHistoryStats rightStats = right.compute();
+            return left.join().merge(rightStats);
+        }
+
+        private static HandHistoryStats scan(Chunk chunk) {
+            HandHistoryStats stats = new HandHistoryStats();
+            HandRecord record = new HandRecord();
+            for (int i = chunk.first; i < chunk.end; i++) stats.add(record.at(chunk.buffer, i));
+            return stats;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("사용법: java history.HandHistoryReader <기록 디렉터리>");
+            return;
+        }
+        long start = System.nanoTime();
+        HandHistoryStats stats = new HandHistoryReader().aggregate(Paths.get(args[0]));
+        System.out.print(stats);
+        System.out.printf("%.1f ms%n", (System.nanoTime() - start) / 1e6);
+    }
+}
@@ -0,0 +1,107 @@
+package history;
+
+import game.HandRank;
+
+//핸드 히스토리 집계 결과 (양쪽 자리 합산)
+public final class HandHistoryStats {
+
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+    private static final int ROUNDS = HandHistoryFormat.BETTING_ROUNDS;
+
+    private long hands;
+    private long showdowns;
+    private final long[] showdownsByRank = new long[HAND_RANKS.length]; // 족보별 쇼다운 참가 수 (자리 기준)
+    private final long[] winsByRank = new long[HAND_RANKS.length];      // 족보별 쇼다운 승리 수
+    private final long[] handsReachingRound = new long[ROUNDS];         // 라운드에 도달한 판 수
+    private final long[] foldsInRound = new long[ROUNDS];               // 라운드에서 폴드로 끝난 판 수
+    private final long[] potSumAfterRound = new long[ROUNDS];           // 라운드 종료 시 팟 합계
+
+    //레코드 하나 누적
+    void add(HandRecord record) {
+        hands++;
+        int lastRound = record.getLastRound();
+        for (int r = 1; r <= lastRound; r++) {
+            handsReachingRound[r - 1]++;
+            potSumAfterRound[r - 1] += record.getPotAfterRound(r);
+        }
+        if (record.isFold()) {
+            if (lastRound > 0) foldsInRound[lastRound - 1]++;
+            return;
+        }
+        showdowns++;
+        int winner = record.getWinnerSeat();
+        for (int seat = HandHistoryFormat.SEAT_USER; seat <= HandHistoryFormat.SEAT_COMPUTER; seat++) {
+            int rank = record.getHandRank(seat).ordinal();
+            showdownsByRank[rank]++;
+            if (seat == winner) winsByRank[rank]++;
+        }
+    }
+
+    //두 집계 합산 (this에 누적)
+    HandHistoryStats merge(HandHistoryStats other) {
+        hands += other.hands;
+        showdowns += other.showdowns;
+        for (int i = 0; i < HAND_RANKS.length; i++) {
+            showdownsByRank[i] += other.showdownsByRank[i];
+            winsByRank[i] += other.winsByRank[i];
+        }
+        for (int r = 0; r < ROUNDS; r++) {
+            handsReachingRound[r] += other.handsReachingRound[r];
+            foldsInRound[r] += other.foldsInRound[r];
+            potSumAfterRound[r] += other.potSumAfterRound[r];
+        }
+        return this;
+    }
+
+    public long getHands() {
+        return hands;
+    }
+
+    public long getShowdowns() {
+        return showdowns;
+    }
+
+    //족보별 쇼다운 참가 수 (한 판에서 두 자리 모두 집계)
+    public long getShowdowns(HandRank rank) {
+        return showdownsByRank[rank.ordinal()];
+    }
+
+    //족보별 쇼다운 승률 (동점은 기존 규칙대로 컴퓨터 승리)
+    public double getWinRate(HandRank rank) {
+        long n = showdownsByRank[rank.ordinal()];
+        return n == 0 ? 0.0 : (double) winsByRank[rank.ordinal()] / n;
+    }
+
+    //라운드(1~5)에 도달한 판 중 그 라운드에서 폴드로 끝난 비율
+    public double getFoldFrequency(int round) {
+        long n = handsReachingRound[round - 1];
+        return n == 0 ? 0.0 : (double) foldsInRound[round - 1] / n;
+    }
+
+    public long getHandsReachingRound(int round) {
+        return handsReachingRound[round - 1];
+    }
+
+    //라운드(1~5) 종료 시 평균 팟
+    public double getAveragePot(int round) {
+        long n = handsReachingRound[round - 1];
+        return n == 0 ? 0.0 : (double) potSumAfterRound[round - 1] / n;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("판 %d, 쇼다운 %d%n", hands, showdowns));
+        sb.append("족보별 쇼다운 승률\n");
+        for (HandRank rank : HAND_RANKS) {
+            if (showdownsByRank[rank.ordinal()] == 0) continue;
+            sb.append(String.format("  %-15s %10d  %.4f%n", rank, showdownsByRank[rank.ordinal()], getWinRate(rank)));
+        }
+        sb.append("라운드별 폴드 비율 / 평균 팟\n");
+        for (int r = 1; r <= ROUNDS; r++) {
+            sb.append(String.format("  %d라운드 %10d판  폴드 %.4f  팟 %.1f%n", r, getHandsReachingRound(r),
+                    getFoldFrequency(r), getAveragePot(r)));
+        }
+        return sb.toString();
+    }
+}
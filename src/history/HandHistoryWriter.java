@@ -0,0 +1,269 @@
+package history;
+
+import card.Card;
+import game.BetAction;
+import game.GameEventListener;
+import game.GameManager;
+import game.HandEvaluationResult;
+import game.ShowdownResult;
+import player.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static history.HandHistoryFormat.*;
+
+//메모리 맵 세그먼트에 한 판씩 고정 길이 레코드를 추가하는 핸드 히스토리 기록기 (GameEventListener)
+//판 시작 시 레코드 자리를 잡고 베팅 행동은 그 자리에 바로 기록 (행동마다 객체 생성 없음)
+//세그먼트가 가득 차면 다음 파일(prefix-000001.hh ...)로 넘어감
+//기존 파일은 지우지 않음: 같은 디렉터리/prefix로 다시 만들면 마지막 세그먼트의 레코드 수 다음부터 이어서 기록
+//(마지막 세그먼트가 가득 찼으면 그다음 번호의 새 세그먼트)
+//GameManager 하나(한 스레드)에 기록기 하나 사용, 디스크 반영은 flush() 또는 close() 시점
+public class HandHistoryWriter implements GameEventListener, AutoCloseable {
+
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 16; // 세그먼트당 16MB
+
+    private final Path directory;
+    private final String prefix;
+    private final int recordsPerSegment;
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int segmentIndex = -1;
+    private int segmentCapacity; // 현재 세그먼트의 레코드 용량 (이어 쓰는 세그먼트는 그 파일의 용량)
+    private int recordCount;     // 현재 세그먼트의 완료된 레코드 수
+    private long totalRecords;   // 이 기록기가 추가한 완료된 레코드 수
+
+    //기록 중인 판
+    private GameManager manager;
+    private boolean inHand;
+    private int base;            // 현재 레코드 시작 위치
+    private int actionCount;
+    private long pot;
+    private int lastRound;
+
+    public HandHistoryWriter(Path directory, String prefix) throws IOException {
+        this(directory, prefix, DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    public HandHistoryWriter(Path directory, String prefix, int recordsPerSegment) throws IOException {
+        if (recordsPerSegment <= 0) throw new IllegalArgumentException("세그먼트 레코드 수는 1 이상이어야 합니다.");
+        this.directory = directory;
+        this.prefix = prefix;
+        this.recordsPerSegment = recordsPerSegment;
+        Files.createDirectories(directory);
+        int last = lastSegmentIndex(directory, prefix);
+        if (last < 0 || !resumeSegment(last)) openSegment(last + 1);
+    }
+
+    public long getTotalRecords() {
+        return totalRecords;
+    }
+
+    public int getSegmentIndex() {
+        return segmentIndex;
+    }
+
+    @Override
+    public void onHandStarted(GameManager manager) {
+        if (recordCount == segmentCapacity) {
+            try {
+                openSegment(segmentIndex + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        this.manager = manager;
+        base = HEADER_SIZE + recordCount * RECORD_SIZE;
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) segment.putLong(base + i, 0L); // 끝나지 않은 이전 판 흔적 제거
+        segment.putLong(base + SEED, manager.getHandSeed());
+        pot = manager.getBettingSystem().getPot();
+        segment.putInt(base + ANTE_POT, toField(pot));
+        actionCount = 0;
+        lastRound = 0;
+        inHand = true;
+    }
+
+    @Override
+    public void onBettingAction(Player player, BetAction action, long amount) {
+        if (!inHand) return;
+        int round = manager.getPhase().getBettingRoundNumber();
+        pot += amount;
+        if (actionCount < MAX_ACTIONS) {
+            int at = base + ACTIONS + actionCount * ACTION_SIZE;
+            segment.put(at + ACTION_ROUND, (byte) round);
+            segment.put(at + ACTION_SEAT, (byte) seatOf(player));
+            segment.put(at + ACTION_TYPE, (byte) action.ordinal());
+            segment.putInt(at + ACTION_AMOUNT, toField(amount));
+            actionCount++;
+        } else {
+            segment.put(base + FLAGS, (byte) (segment.get(base + FLAGS) | FLAG_ACTIONS_TRUNCATED));
+        }
+        if (round > 0) {
+            segment.putInt(base + POT_AFTER_ROUND + (round - 1) * Integer.BYTES, toField(pot));
+            lastRound = round;
+        }
+    }
+
+    @Override
+    public void onHandFinished(ShowdownResult result) {
+        if (!inHand) return;
+        Player user = manager.getUser();
+        Player computer = manager.getComputer();
+
+        segment.put(base + WINNER, (byte) seatOf(result.getWinner()));
+        segment.put(base + FOLDED, result.isFold() ? (byte) seatOf(result.getFoldedPlayer()) : NO_SEAT);
+        segment.put(base + ACTION_COUNT, (byte) actionCount);
+        writeCards(base + USER_CARDS, user);
+        writeCards(base + COMPUTER_CARDS, computer);
+        segment.put(base + USER_OPEN, codeOf(firstOpenCard(user)));
+        segment.put(base + COMPUTER_OPEN, codeOf(firstOpenCard(computer)));
+
+        // 쇼다운이면 마지막 라운드까지, 폴드면 폴드한 라운드까지 팟을 이어서 채움 (행동 없이 지나간 라운드)
+        int endRound = result.isFold() ? Math.max(lastRound, 1) : BETTING_ROUNDS;
+        int carried = segment.getInt(base + ANTE_POT);
+        for (int r = 0; r < endRound; r++) {
+            int at = base + POT_AFTER_ROUND + r * Integer.BYTES;
+            int roundPot = segment.getInt(at);
+            if (roundPot == 0) segment.putInt(at, carried);
+            else carried = roundPot;
+        }
+        segment.put(base + LAST_ROUND, (byte) endRound);
+        segment.putInt(base + FINAL_POT, toField(pot));
+
+        HandEvaluationResult userResult = result.getUserResult();
+        HandEvaluationResult computerResult = result.getComputerResult();
+        segment.putInt(base + USER_STRENGTH, userResult != null ? userResult.getStrength() : 0);
+        segment.putInt(base + COMPUTER_STRENGTH, computerResult != null ? computerResult.getStrength() : 0);
+        segment.putInt(base + USER_COIN_AFTER, toField(user.getCoin()));
+        segment.putInt(base + COMPUTER_COIN_AFTER, toField(computer.getCoin()));
+
+        // 레코드를 모두 쓴 뒤 헤더의 레코드 수 갱신 (읽는 쪽은 이 수까지만 읽음)
+        recordCount++;
+        totalRecords++;
+        segment.putInt(HEADER_COUNT, recordCount);
+        inHand = false;
+    }
+
+    //메모리 맵 내용을 디스크에 반영
+    public void flush() {
+        if (segment != null) segment.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel == null) return;
+        flush();
+        channel.close();
+        channel = null;
+        segment = null;
+    }
+
+    //새 세그먼트 파일 생성 후 헤더 기록 (같은 이름의 파일이 있으면 덮어쓰지 않고 FileAlreadyExistsException)
+    private void openSegment(int index) throws IOException {
+        if (channel != null) {
+            segment.force(); // 이전 세그먼트도 디스크에 반영한 뒤 닫음
+            channel.close(); // 매핑은 GC 시 해제
+        }
+        Path path = HandHistoryFormat.segmentPath(directory, prefix, index);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) recordsPerSegment * RECORD_SIZE);
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        segment.putInt(HEADER_MAGIC, MAGIC);
+        segment.putShort(HEADER_VERSION, VERSION);
+        segment.putShort(HEADER_RECORD_SIZE, (short) RECORD_SIZE);
+        segment.putInt(HEADER_CAPACITY, recordsPerSegment);
+        segment.putInt(HEADER_COUNT, 0);
+        segment.putLong(HEADER_CREATED_MILLIS, System.currentTimeMillis());
+        segment.putInt(HEADER_SEGMENT_INDEX, index);
+        segmentIndex = index;
+        segmentCapacity = recordsPerSegment;
+        recordCount = 0;
+    }
+
+    //기존 세그먼트를 열어 완료된 레코드 다음부터 이어 쓰기 (가득 찼으면 false)
+    //형식이 다른 파일이면 건드리지 않고 IOException
+    private boolean resumeSegment(int index) throws IOException {
+        Path path = HandHistoryFormat.segmentPath(directory, prefix, index);
+        FileChannel existing = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (existing.size() < HEADER_SIZE) throw new IOException("세그먼트 헤더가 없습니다: " + path);
+            MappedByteBuffer header = existing.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(HEADER_MAGIC) != MAGIC || header.getShort(HEADER_VERSION) != VERSION
+                    || header.getShort(HEADER_RECORD_SIZE) != RECORD_SIZE) {
+                throw new IOException("핸드 히스토리 세그먼트 형식이 아닙니다: " + path);
+            }
+            int capacity = header.getInt(HEADER_CAPACITY);
+            int count = header.getInt(HEADER_COUNT);
+            long size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+            if (capacity <= 0 || count < 0 || count > capacity || existing.size() < size) {
+                throw new IOException("세그먼트 헤더가 올바르지 않습니다: " + path);
+            }
+            if (count == capacity) {
+                existing.close();
+                return false;
+            }
+            segment = existing.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+            channel = existing;
+            segmentIndex = index;
+            segmentCapacity = capacity;
+            recordCount = count;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            existing.close();
+            throw e;
+        }
+    }
+
+    //prefix의 기존 세그먼트 중 가장 큰 번호 (없으면 -1)
+    private static int lastSegmentIndex(Path directory, String prefix) throws IOException {
+        Pattern name = Pattern.compile(Pattern.quote(prefix) + "-(\\d{6})" + Pattern.quote(SEGMENT_SUFFIX));
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> name.matcher(p.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToInt(m -> Integer.parseInt(m.group(1)))
+                    .max().orElse(-1);
+        }
+    }
+
+    //버린 카드 + 받은 순서의 패
+    private void writeCards(int at, Player player) {
+        segment.put(at, codeOf(player.getDiscardedCard()));
+        List<Card> hand = player.getHand();
+        for (int i = 1; i < CARDS_PER_SEAT; i++) {
+            segment.put(at + i, i - 1 < hand.size() ? codeOf(hand.get(i - 1)) : NO_CARD);
+        }
+    }
+
+    //선택 단계에서 고른 오픈 카드 (이후 배분된 오픈 카드보다 먼저 추가됨)
+    private static Card firstOpenCard(Player player) {
+        List<Card> openCards = player.getOpenCards();
+        return openCards.isEmpty() ? null : openCards.get(0);
+    }
+
+    private int seatOf(Player player) {
+        return player == manager.getUser() ? SEAT_USER : SEAT_COMPUTER;
+    }
+
+    private static byte codeOf(Card card) {
+        return card == null ? NO_CARD : (byte) card.getCode();
+    }
+
+    //코인 금액(장부는 long)을 int 필드에 기록, 범위를 넘으면 최대/최소값으로 고정
+    private static int toField(long chips) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, chips));
+    }
+}
@@ -0,0 +1,113 @@
+package history;
+
+import game.BetAction;
+import game.HandRank;
+import game.SevenCardEvaluator;
+
+import java.nio.ByteBuffer;
+
+import static history.HandHistoryFormat.*;
+
+//매핑된 세그먼트 위의 레코드 하나를 읽는 뷰 (필드는 요청할 때만 읽음)
+//at()으로 위치만 옮겨 재사용하므로 레코드마다 객체를 만들지 않음
+public final class HandRecord {
+
+    private static final BetAction[] BET_ACTIONS = BetAction.values();
+
+    private ByteBuffer buffer;
+    private int base;
+
+    //buffer의 recordIndex번째 레코드로 이동
+    HandRecord at(ByteBuffer buffer, int recordIndex) {
+        this.buffer = buffer;
+        this.base = HEADER_SIZE + recordIndex * RECORD_SIZE;
+        return this;
+    }
+
+    public long getSeed() {
+        return buffer.getLong(base + SEED);
+    }
+
+    public int getWinnerSeat() {
+        return buffer.get(base + WINNER);
+    }
+
+    //폴드한 자리 (쇼다운이면 NO_SEAT)
+    public int getFoldedSeat() {
+        return buffer.get(base + FOLDED);
+    }
+
+    public boolean isFold() {
+        return getFoldedSeat() != NO_SEAT;
+    }
+
+    //판이 끝난 베팅 라운드 (1~5)
+    public int getLastRound() {
+        return buffer.get(base + LAST_ROUND);
+    }
+
+    //자리별 카드 코드 (0: 버린 카드, 1~7: 받은 순서의 패, 없으면 NO_CARD)
+    public int getCard(int seat, int index) {
+        return buffer.get(base + (seat == SEAT_USER ? USER_CARDS : COMPUTER_CARDS) + index);
+    }
+
+    public int getOpenCard(int seat) {
+        return buffer.get(base + (seat == SEAT_USER ? USER_OPEN : COMPUTER_OPEN));
+    }
+
+    //7장 족보 강도 (폴드로 끝나면 0)
+    public int getStrength(int seat) {
+        return buffer.getInt(base + (seat == SEAT_USER ? USER_STRENGTH : COMPUTER_STRENGTH));
+    }
+
+    //쇼다운 족보 (폴드로 끝나면 null)
+    public HandRank getHandRank(int seat) {
+        int strength = getStrength(seat);
+        return strength == 0 ? null : SevenCardEvaluator.handRankOf(strength);
+    }
+
+    //베팅 라운드(1~5) 종료 시 팟 (진행하지 않은 라운드는 0)
+    public int getPotAfterRound(int round) {
+        return buffer.getInt(base + POT_AFTER_ROUND + (round - 1) * Integer.BYTES);
+    }
+
+    public int getFinalPot() {
+        return buffer.getInt(base + FINAL_POT);
+    }
+
+    public int getAntePot() {
+        return buffer.getInt(base + ANTE_POT);
+    }
+
+    public int getCoinAfter(int seat) {
+        return buffer.getInt(base + (seat == SEAT_USER ? USER_COIN_AFTER : COMPUTER_COIN_AFTER));
+    }
+
+    public int getActionCount() {
+        return buffer.get(base + ACTION_COUNT);
+    }
+
+    public boolean isActionsTruncated() {
+        return (buffer.get(base + FLAGS) & FLAG_ACTIONS_TRUNCATED) != 0;
+    }
+
+    public int getActionRound(int index) {
+        return buffer.get(action(index) + ACTION_ROUND);
+    }
+
+    public int getActionSeat(int index) {
+        return buffer.get(action(index) + ACTION_SEAT);
+    }
+
+    public BetAction getAction(int index) {
+        return BET_ACTIONS[buffer.get(action(index) + ACTION_TYPE)];
+    }
+
+    public int getActionAmount(int index) {
+        return buffer.getInt(action(index) + ACTION_AMOUNT);
+    }
+
+    private int action(int index) {
+        return base + ACTIONS + index * ACTION_SIZE;
+    }
+}
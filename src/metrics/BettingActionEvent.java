@@ -0,0 +1,34 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//JFR: BettingSystem 베팅 행동 한 번 (체크, 콜, 쿼터/하프 레이즈, 폴드)
+@Name("poker.BettingAction")
+@Label("Betting Action")
+@Category({"Poker", "Betting"})
+@Description("BettingSystem에서 처리한 베팅 행동")
+@StackTrace(false)
+public final class BettingActionEvent extends jdk.jfr.Event {
+
+    @Label("Table Id")
+    public int tableId;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Player")
+    public String player;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Amount")
+    public long amount;
+
+    @Label("Pot")
+    public long pot;
+}
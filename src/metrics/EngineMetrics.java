@@ -0,0 +1,130 @@
+package metrics;
+
+import game.GamePhase;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+//엔진 지표 수집 (모든 테이블 공유, LongAdder와 미리 할당한 히스토그램만 사용하므로 락 없음)
+//클래스 로드 시 JMX MBean(poker:type=EngineMetrics)으로 등록되어 jconsole 등에서 조회
+//setEnabled(false)이면 시간 측정(System.nanoTime)도 하지 않음
+public final class EngineMetrics {
+
+    public static final String OBJECT_NAME = "poker:type=EngineMetrics";
+
+    private static final int EVALUATION_SAMPLE_MASK = 1023; // 족보 평가 시간은 1024번에 1번만 측정
+
+    private static volatile boolean enabled = true;
+    private static int evaluationTick; // 표본 선택용 (경쟁 상태로 몇 번 어긋나도 무방)
+
+    static final LongAdder HANDS_STARTED = new LongAdder();
+    static final LongAdder HANDS_FINISHED = new LongAdder();
+    static final LongAdder INVALID_BETS = new LongAdder();
+    static final LongAdder EVALUATIONS = new LongAdder();                 // 7장 평가 횟수 (HandEvaluator, 에퀴티 계산, CFR 쇼다운)
+    static final LatencyHistogram EVALUATOR = new LatencyHistogram();     // HandEvaluator 7장 평가 (표본)
+    static final LatencyHistogram AUTO_ACTION = new LatencyHistogram();   // BettingSystem.autoAction 판단
+    static final LatencyHistogram[] PHASES = new LatencyHistogram[GamePhase.values().length]; // 단계별 엔진 처리 시간
+
+    static {
+        for (int i = 0; i < PHASES.length; i++) PHASES[i] = new LatencyHistogram();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) server.registerMBean(new EngineMetricsBean(), name);
+        } catch (JMException | SecurityException e) {
+            // JMX를 쓸 수 없는 환경에서도 수집은 계속
+        }
+    }
+
+    private EngineMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    //측정 시작 시각 (비활성화 시 0)
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    //족보 평가 1회 집계, 표본으로 뽑힌 호출만 시작 시각을 돌려줌 (그 외 0)
+    //평가 자체가 수십 ns라 매번 시간을 재면 측정 비용이 평가보다 커짐
+    public static long startEvaluation() {
+        if (!enabled) return 0L;
+        EVALUATIONS.increment();
+        return (++evaluationTick & EVALUATION_SAMPLE_MASK) == 0 ? System.nanoTime() : 0L;
+    }
+
+    //SevenCardEvaluator를 직접 부르는 계산기가 작업 단위로 평가 횟수를 한 번에 더함
+    public static void evaluations(long count) {
+        if (enabled && count > 0) EVALUATIONS.add(count);
+    }
+
+    public static void handStarted() {
+        if (enabled) HANDS_STARTED.increment();
+    }
+
+    public static void handFinished() {
+        if (enabled) HANDS_FINISHED.increment();
+    }
+
+    public static void invalidBet() {
+        if (enabled) INVALID_BETS.increment();
+    }
+
+    //start()로 받은 시각부터 지금까지를 해당 단계 처리 시간으로 기록
+    public static void recordPhase(GamePhase phase, long start) {
+        if (start != 0L) PHASES[phase.ordinal()].record(System.nanoTime() - start);
+    }
+
+    public static void recordEvaluation(long start) {
+        if (start != 0L) EVALUATOR.record(System.nanoTime() - start);
+    }
+
+    public static void recordAutoAction(long start) {
+        if (start != 0L) AUTO_ACTION.record(System.nanoTime() - start);
+    }
+
+    public static long getEvaluations() {
+        return EVALUATIONS.sum();
+    }
+
+    public static long getHandsFinished() {
+        return HANDS_FINISHED.sum();
+    }
+
+    public static LatencyHistogram getPhaseHistogram(GamePhase phase) {
+        return PHASES[phase.ordinal()];
+    }
+
+    public static LatencyHistogram getEvaluatorHistogram() {
+        return EVALUATOR;
+    }
+
+    public static LatencyHistogram getAutoActionHistogram() {
+        return AUTO_ACTION;
+    }
+
+    public static long getInvalidBets() {
+        return INVALID_BETS.sum();
+    }
+
+    //모든 지표 초기화
+    public static void reset() {
+        HANDS_STARTED.reset();
+        HANDS_FINISHED.reset();
+        INVALID_BETS.reset();
+        EVALUATIONS.reset();
+        EVALUATOR.reset();
+        AUTO_ACTION.reset();
+        for (LatencyHistogram phase : PHASES) phase.reset();
+    }
+}
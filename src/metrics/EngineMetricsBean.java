@@ -0,0 +1,110 @@
+package metrics;
+
+import game.GamePhase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//EngineMetrics 값을 JMX로 읽어 주는 MBean 구현
+final class EngineMetricsBean implements EngineMetricsMXBean {
+
+    private static final double P99 = 0.99;
+
+    private long lastHands;
+    private long lastReadNanos = System.nanoTime();
+
+    @Override
+    public long getHandsStarted() {
+        return EngineMetrics.HANDS_STARTED.sum();
+    }
+
+    @Override
+    public long getHandsFinished() {
+        return EngineMetrics.HANDS_FINISHED.sum();
+    }
+
+    @Override
+    public synchronized double getHandsPerSecond() {
+        long hands = EngineMetrics.HANDS_FINISHED.sum();
+        long now = System.nanoTime();
+        double rate = now == lastReadNanos ? 0.0 : (hands - lastHands) * 1e9 / (now - lastReadNanos);
+        lastHands = hands;
+        lastReadNanos = now;
+        return rate;
+    }
+
+    @Override
+    public long getEvaluatorCalls() {
+        return EngineMetrics.EVALUATIONS.sum();
+    }
+
+    //평균/P99는 1024번에 1번 측정한 표본 기준
+    @Override
+    public double getEvaluatorMeanNanos() {
+        return EngineMetrics.EVALUATOR.getMeanNanos();
+    }
+
+    @Override
+    public long getEvaluatorP99Nanos() {
+        return EngineMetrics.EVALUATOR.getPercentileNanos(P99);
+    }
+
+    @Override
+    public long getAutoActionCalls() {
+        return EngineMetrics.AUTO_ACTION.getCount();
+    }
+
+    @Override
+    public double getAutoActionMeanNanos() {
+        return EngineMetrics.AUTO_ACTION.getMeanNanos();
+    }
+
+    @Override
+    public long getAutoActionP99Nanos() {
+        return EngineMetrics.AUTO_ACTION.getPercentileNanos(P99);
+    }
+
+    @Override
+    public long getInvalidBetExceptions() {
+        return EngineMetrics.INVALID_BETS.sum();
+    }
+
+    @Override
+    public double getInvalidBetsPerHand() {
+        long hands = EngineMetrics.HANDS_FINISHED.sum();
+        return hands == 0 ? 0.0 : (double) EngineMetrics.INVALID_BETS.sum() / hands;
+    }
+
+    @Override
+    public Map<String, Double> getPhaseMeanNanos() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (GamePhase phase : GamePhase.values()) {
+            result.put(phase.name(), EngineMetrics.getPhaseHistogram(phase).getMeanNanos());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getPhaseP99Nanos() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (GamePhase phase : GamePhase.values()) {
+            result.put(phase.name(), EngineMetrics.getPhaseHistogram(phase).getPercentileNanos(P99));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return EngineMetrics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        EngineMetrics.setEnabled(enabled);
+    }
+
+    @Override
+    public void reset() {
+        EngineMetrics.reset();
+    }
+}
@@ -0,0 +1,43 @@
+package metrics;
+
+import java.util.Map;
+
+//JMX로 공개하는 엔진 지표 (poker:type=EngineMetrics)
+public interface EngineMetricsMXBean {
+
+    long getHandsStarted();
+
+    long getHandsFinished();
+
+    //이전 조회 이후 초당 완료 판 수
+    double getHandsPerSecond();
+
+    long getEvaluatorCalls();
+
+    double getEvaluatorMeanNanos();
+
+    long getEvaluatorP99Nanos();
+
+    long getAutoActionCalls();
+
+    double getAutoActionMeanNanos();
+
+    long getAutoActionP99Nanos();
+
+    long getInvalidBetExceptions();
+
+    //완료 판당 InvalidBetException 수
+    double getInvalidBetsPerHand();
+
+    //단계 이름별 평균 엔진 처리 시간 (나노초)
+    Map<String, Double> getPhaseMeanNanos();
+
+    //단계 이름별 p99 처리 시간 상한 (나노초)
+    Map<String, Long> getPhaseP99Nanos();
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    void reset();
+}
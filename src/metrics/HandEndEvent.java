@@ -0,0 +1,31 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//JFR: 판 종료 (기간 = 판 시작부터 쇼다운/폴드 처리까지, 사람 입력 대기 포함)
+@Name("poker.HandEnd")
+@Label("Hand End")
+@Category({"Poker", "Hand"})
+@Description("쇼다운 또는 폴드로 판 종료, 기간은 판 시작부터")
+@StackTrace(false)
+public final class HandEndEvent extends jdk.jfr.Event {
+
+    @Label("Table Id")
+    public int tableId;
+
+    @Label("Hand Seed")
+    public long handSeed;
+
+    @Label("Pot")
+    public long pot;
+
+    @Label("Fold")
+    public boolean fold;
+
+    @Label("Winner")
+    public String winner;
+}
@@ -0,0 +1,19 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//JFR: HandEvaluator 7장 평가 한 번 (기간 = 평가 시간)
+@Name("poker.HandEvaluation")
+@Label("Hand Evaluation")
+@Category({"Poker", "Engine"})
+@Description("HandEvaluator 7장 족보 평가")
+@StackTrace(false)
+public final class HandEvaluationEvent extends jdk.jfr.Event {
+
+    @Label("Strength")
+    public int strength;
+}
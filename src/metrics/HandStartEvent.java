@@ -0,0 +1,25 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//JFR: 새 판 시작 (앤티 납부 직후)
+@Name("poker.HandStart")
+@Label("Hand Start")
+@Category({"Poker", "Hand"})
+@Description("덱 리셋과 앤티 납부 후 새 판 시작")
+@StackTrace(false)
+public final class HandStartEvent extends jdk.jfr.Event {
+
+    @Label("Table Id")
+    public int tableId;
+
+    @Label("Hand Seed")
+    public long handSeed;
+
+    @Label("Pot")
+    public long pot;
+}
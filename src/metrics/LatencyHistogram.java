@@ -0,0 +1,58 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+//나노초 지연 시간 히스토그램 (2의 거듭제곱 구간 64개, 미리 할당, 락 없음)
+//구간 i = [2^(i-1), 2^i) 나노초, 백분위는 해당 구간의 상한으로 추정
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets[BUCKETS - Long.numberOfLeadingZeros(nanos)].increment(); // 0은 구간 0
+        count.increment();
+        totalNanos.add(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMeanNanos() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) totalNanos.sum() / n;
+    }
+
+    //p (0~1) 백분위 상한 추정 (나노초)
+    public long getPercentileNanos(double p) {
+        long[] snapshot = new long[BUCKETS];
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets[i].sum();
+            n += snapshot[i];
+        }
+        if (n == 0) return 0;
+        long target = (long) Math.ceil(p * n);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= Math.max(1, target)) return i == 0 ? 0 : i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << i;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) bucket.reset();
+        count.reset();
+        totalNanos.reset();
+    }
+}
@@ -0,0 +1,28 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//JFR: GameManager 단계 처리 한 번 (기간 = 엔진 처리 시간, 입력 대기 제외)
+@Name("poker.Phase")
+@Label("Game Phase")
+@Category({"Poker", "Engine"})
+@Description("GameManager 단계 처리와 다음 단계로의 전이")
+@StackTrace(false)
+public final class PhaseEvent extends jdk.jfr.Event {
+
+    @Label("Table Id")
+    public int tableId;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Next Phase")
+    public String nextPhase;
+
+    @Label("Pot")
+    public long pot;
+}
@@ -0,0 +1,160 @@
+package player;
+
+//좌석 번호로 접근하는 베팅 장부 (헤즈업 2좌석, 원시 배열만 사용 - 박싱/해시/객체 생성 없음)
+//보유 칩, 이번 라운드 베팅액, 레이즈 횟수, 행동/폴드 여부와 팟을 한곳에서 관리하고
+//칩 이동은 좌석 <-> 팟 사이에서만 일어나므로 (보유 칩 합 + 팟)이 항상 일정 (assert로 확인, -ea)
+//금액은 long, 더하기/빼기는 Math.*Exact로 넘침 시 ArithmeticException
+public final class BettingLedger {
+
+    public static final int SEATS = 2;
+    public static final int USER_SEAT = 0;
+    public static final int COMPUTER_SEAT = 1;
+
+    private final long[] stacks = new long[SEATS];      // 보유 칩
+    private final long[] committed = new long[SEATS];   // 이번 라운드에 낸 칩
+    private final int[] raises = new int[SEATS];        // 이번 라운드 레이즈 횟수
+    private final boolean[] acted = new boolean[SEATS]; // 이번 라운드 행동 여부
+    private final boolean[] folded = new boolean[SEATS];
+    private long pot;
+    private long currentBet;                            // 이번 라운드 기준 베팅액
+    private long totalChips;                            // 보유 칩 합 + 팟 (칩 보존 확인용)
+
+    public long getStack(int seat) {
+        return stacks[seat];
+    }
+
+    public long getCommitted(int seat) {
+        return committed[seat];
+    }
+
+    public int getRaises(int seat) {
+        return raises[seat];
+    }
+
+    public boolean hasActed(int seat) {
+        return acted[seat];
+    }
+
+    public boolean isFolded(int seat) {
+        return folded[seat];
+    }
+
+    public long getPot() {
+        return pot;
+    }
+
+    public long getCurrentBet() {
+        return currentBet;
+    }
+
+    //현재 기준 베팅액을 맞추기 위해 더 내야 하는 칩 (0 이상)
+    public long getAmountToCall(int seat) {
+        return Math.max(0L, currentBet - committed[seat]);
+    }
+
+    public boolean isAllIn(int seat) {
+        return stacks[seat] <= 0;
+    }
+
+    //보유 칩 직접 설정 (게임 재시작 등 외부 입금/출금)
+    public void setStack(int seat, long chips) {
+        if (chips < 0) throw new IllegalArgumentException("보유 칩은 0 이상이어야 합니다.");
+        totalChips = Math.addExact(totalChips - stacks[seat], chips);
+        stacks[seat] = chips;
+        assert isConserved();
+    }
+
+    //좌석 -> 팟 (보유 칩이 부족하면 전부, 이번 라운드 베팅액에 포함) - 실제로 낸 칩 반환
+    public long bet(int seat, long amount) {
+        long paid = moveToPot(seat, amount);
+        committed[seat] = Math.addExact(committed[seat], paid);
+        return paid;
+    }
+
+    //앤티: 좌석 -> 팟 (라운드 베팅액에는 포함하지 않음) - 실제로 낸 칩 반환
+    public long postAnte(int seat, long amount) {
+        return moveToPot(seat, amount);
+    }
+
+    //레이즈: 기준 베팅액 증가 및 레이즈 횟수 기록
+    public void raise(int seat, long raiseAmount) {
+        currentBet = Math.addExact(currentBet, raiseAmount);
+        raises[seat]++;
+    }
+
+    //기준 베팅액 직접 설정 (레이즈 횟수는 그대로)
+    public void setCurrentBet(long amount) {
+        currentBet = amount;
+    }
+
+    //팟 전체를 좌석에 지급 - 지급한 칩 반환
+    public long awardPot(int seat) {
+        long won = pot;
+        stacks[seat] = Math.addExact(stacks[seat], won);
+        pot = 0;
+        assert isConserved();
+        return won;
+    }
+
+    //팟을 비움 (남은 칩은 장부 밖으로 나감)
+    public void clearPot() {
+        totalChips -= pot;
+        pot = 0;
+        assert isConserved();
+    }
+
+    public void setActed(int seat, boolean value) {
+        acted[seat] = value;
+    }
+
+    public void fold(int seat) {
+        folded[seat] = true;
+    }
+
+    //새 베팅 라운드: 기준 베팅액, 레이즈 횟수 초기화
+    public void resetRound() {
+        currentBet = 0;
+        for (int seat = 0; seat < SEATS; seat++) raises[seat] = 0;
+    }
+
+    //좌석의 라운드 상태 초기화 (베팅액, 폴드, 행동 여부)
+    public void resetSeat(int seat) {
+        committed[seat] = 0;
+        folded[seat] = false;
+        acted[seat] = false;
+    }
+
+    //스냅샷 복원: 라운드 상태
+    public void restoreRound(long pot, long currentBet, int userRaises, int computerRaises) {
+        this.pot = pot;
+        this.currentBet = currentBet;
+        raises[USER_SEAT] = userRaises;
+        raises[COMPUTER_SEAT] = computerRaises;
+        totalChips = Math.addExact(Math.addExact(stacks[USER_SEAT], stacks[COMPUTER_SEAT]), pot);
+    }
+
+    //스냅샷 복원: 좌석 상태
+    public void restoreSeat(int seat, long stack, long committed, boolean folded, boolean acted) {
+        totalChips = Math.addExact(totalChips - stacks[seat], stack);
+        stacks[seat] = stack;
+        this.committed[seat] = committed;
+        this.folded[seat] = folded;
+        this.acted[seat] = acted;
+    }
+
+    //칩 보존: 보유 칩 합 + 팟 = 총 칩
+    public boolean isConserved() {
+        long sum = pot;
+        for (int seat = 0; seat < SEATS; seat++) sum += stacks[seat];
+        return sum == totalChips;
+    }
+
+    private long moveToPot(int seat, long amount) {
+        if (amount < 0) throw new IllegalArgumentException("베팅 금액은 0 이상이어야 합니다.");
+        long paid = Math.min(amount, stacks[seat]);
+        stacks[seat] -= paid;
+        pot = Math.addExact(pot, paid);
+        assert isConserved();
+        return paid;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Comparator;
 
 public class ComputerPlayer extends Player {
 	
+    private Card selectedDiscardCard = null;
     private Card selectedOpenCard = null;
     
     //가장 높은 랭크 선택
@@ -17,17 +18,23 @@ public class ComputerPlayer extends Player {
     	selectedOpenCard = card;
     }
     
+    //버릴 카드 설정 (GameManager가 좌석 전략 판단으로 설정)
+    public void setSelectedDiscardCard(Card card) {
+    	selectedDiscardCard = card;
+    }
+    
     //버리는 카드 선택
     public Card chooseCardToDiscard() {
-        Card discard = hand.get(0); // 제일 앞 카드 단순 discard
-        hand.remove(discard); openCards.remove(discard);
+        Card discard = selectedDiscardCard != null ? selectedDiscardCard : hand.get(0); // 미설정 시 제일 앞 카드
+        discardCard(discard);
+        selectedDiscardCard = null;
         return discard;
     }
     
     //오픈 카드 선택
     public Card chooseCardToOpen() {
         if (selectedOpenCard == null) selectedOpenCard = chooseHighestCard();
-        openCards.add(selectedOpenCard);
+        addOpenCard(selectedOpenCard);
         Card opened = selectedOpenCard;
         selectedOpenCard = null;
         return opened;
@@ -1,9 +1,13 @@
 package player;
 
 import card.Card;
+import card.HandState;
 //플레이어 행동 정의
 public interface IPlayerAction {
     void receiveCard(Card card);
     void receiveOpenCard(Card card);
     void receiveHiddenCard(Card card);
+    void discardCard(Card card);
+    HandState getHandState();  // 전체 패 상태 (카드 수령/버림 시 갱신)
+    HandState getOpenState();  // 오픈카드 상태
 }
@@ -1,6 +1,7 @@
 package player;
 
 import card.Card;
+import card.HandState;
 import java.util.*;
 
 public abstract class Player implements IPlayerAction{
@@ -8,21 +9,46 @@ public abstract class Player implements IPlayerAction{
     protected List<Card> hand = new ArrayList<>();         // 실제 유저 패(히든카드 포함)
     protected List<Card> openCards = new ArrayList<>();    // 공개된 오픈카드
     protected Card lastHiddenCard = null;                  // 마지막 히든카드(7번째)
-    protected int coin = 1000000;
-    protected int currentBet = 0;                          // 라운드 내 현재 베팅 금액
-    protected boolean folded = false;
-    protected boolean actedThisRound = false;
+    protected Card discardedCard = null;                   // 버린 카드(초기 4장 중 1장)
+    protected final HandState handState = new HandState(); // hand 랭크/문양 장수, 비트마스크
+    protected final HandState openState = new HandState(); // openCards 랭크/문양 장수, 비트마스크
+    //코인, 라운드 베팅액, 폴드/행동 여부는 좌석 번호로 장부에 기록 (GameManager가 공유 장부에 연결)
+    protected BettingLedger ledger = new BettingLedger();
+    protected int seat = BettingLedger.USER_SEAT;
+    
+    public Player() {
+        ledger.setStack(seat, 1000000);
+    }
+    
+    //공유 장부의 좌석에 연결 (보유 코인은 옮겨 감, 라운드 상태는 초기화)
+    public void attachLedger(BettingLedger ledger, int seat) {
+        ledger.setStack(seat, getCoin());
+        ledger.resetSeat(seat);
+        this.ledger = ledger;
+        this.seat = seat;
+    }
     
 
-    public void receiveCard(Card card) { hand.add(card); }
-    public void receiveOpenCard(Card card) { hand.add(card); openCards.add(card); }
-    public void receiveHiddenCard(Card card) { hand.add(card); lastHiddenCard = card; }
-    public void payAnte(int anteAmount) {//엔티 코인 설정
-        if (anteAmount > coin) {
-            this.coin = 0; // 예시: 코인 전부 지불
-        } else {
-            this.coin -= anteAmount;
-        }        
+    public void receiveCard(Card card) { hand.add(card); handState.add(card); }
+    public void receiveOpenCard(Card card) { receiveCard(card); addOpenCard(card); }
+    public void receiveHiddenCard(Card card) { receiveCard(card); lastHiddenCard = card; }
+    
+    //가진 카드를 오픈카드로 공개
+    protected void addOpenCard(Card card) {
+        openCards.add(card);
+        openState.add(card);
+    }
+    
+    //패에서 카드 제거(버리기)
+    public void discardCard(Card card) {
+        if (hand.contains(card)) discardedCard = card;
+        hand.remove(card);
+        openCards.remove(card);
+        handState.remove(card);
+        openState.remove(card);
+    }
+    public long payAnte(long anteAmount) {//엔티 코인 설정 (코인 부족 시 전부 지불), 실제로 낸 코인 반환
+        return ledger.postAnte(seat, anteAmount);
     }
     public List<Card> getHand() { 
     	return new ArrayList<>(hand); 
@@ -32,57 +58,98 @@ public abstract class Player implements IPlayerAction{
     	return new ArrayList<>(openCards); 
     	}
     
+    public HandState getHandState() {
+    	return handState;
+    	}
+    
+    public HandState getOpenState() {
+    	return openState;
+    	}
+    
+    public long getHandMask() {
+    	return handState.getMask();
+    	}
+    
+    public long getOpenMask() {
+    	return openState.getMask();
+    	}
+    
     public Card getLastHiddenCard() { 
     	return lastHiddenCard; 
     	}
     
-    public int getCoin() { 
-    	return coin; 
+    public Card getDiscardedCard() { 
+    	return discardedCard; 
+    	}
+    
+    public BettingLedger getLedger() {
+    	return ledger;
+    	}
+    
+    public int getSeat() {
+    	return seat;
+    	}
+    
+    public long getCoin() { 
+    	return ledger.getStack(seat); 
     	}
     
-    public int getCurrentBet() { 
-    	return currentBet; 
+    public long getCurrentBet() { 
+    	return ledger.getCommitted(seat); 
     }
     
     public boolean isFolded() { 
-    	return folded; 
+    	return ledger.isFolded(seat); 
     }
     
     public boolean hasActedThisRound() { 
-    	return actedThisRound; 
+    	return ledger.hasActed(seat); 
     }
     
-    public void setCurrentBet(int value) { 
-    	this.currentBet = value; 
-    	}
-    
     public void setActedThisRound(boolean acted) {
-        this.actedThisRound = acted;
+        ledger.setActed(seat, acted);
     }
     
-    public void bet(int amount) { 
-    	coin -= amount; currentBet += amount; 
+    //코인 -> 팟 (코인 부족 시 올인), 실제로 낸 코인 반환
+    public long bet(long amount) { 
+    	return ledger.bet(seat, amount); 
     	}
     
     public void fold() { 
-    	folded = true; 
+    	ledger.fold(seat); 
     	}
     
-    public void receivePot(int amount) { 
-    	coin += amount; 
+    //팟 전체 수령, 받은 코인 반환
+    public long receivePot() { 
+    	return ledger.awardPot(seat); 
     	}
     
     public void resetBet() { 
-    	currentBet = 0; folded = false; actedThisRound = false; 
+    	ledger.resetSeat(seat); 
     	}
     
-    public void resetCoin(int v) { 
-    	coin = v; 
+    public void resetCoin(long v) { 
+    	ledger.setStack(seat, v); 
     	}
     
     public void clearAll() {
-        hand.clear(); openCards.clear(); lastHiddenCard = null;
-        currentBet = 0; folded = false; actedThisRound = false;
+        hand.clear(); openCards.clear(); lastHiddenCard = null; discardedCard = null;
+        handState.clear(); openState.clear();
+        ledger.resetSeat(seat);
+    }
+    
+    //스냅샷 복원: 카드 상태 (openCards는 hand의 부분 집합, 순서 유지)
+    public void restoreCards(List<Card> hand, List<Card> openCards, Card lastHiddenCard, Card discardedCard) {
+        this.hand.clear(); this.openCards.clear(); handState.clear(); openState.clear();
+        for (Card card : hand) receiveCard(card);
+        for (Card card : openCards) addOpenCard(card);
+        this.lastHiddenCard = lastHiddenCard;
+        this.discardedCard = discardedCard;
+    }
+    
+    //스냅샷 복원: 코인, 베팅 상태
+    public void restoreBetting(long coin, long currentBet, boolean folded, boolean actedThisRound) {
+        ledger.restoreSeat(seat, coin, currentBet, folded, actedThisRound);
     }
     
     public List<Card> getAllCards() { // 오픈+히든 전부 반환
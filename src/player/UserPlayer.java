@@ -12,8 +12,7 @@ public class UserPlayer extends Player {
     
     public Card chooseCardToDiscard() {
         if (selectedDiscardCard == null) throw new IllegalStateException("버릴 카드 미선택");
-        hand.remove(selectedDiscardCard);
-        openCards.remove(selectedDiscardCard);
+        discardCard(selectedDiscardCard);
         Card discard = selectedDiscardCard;
         selectedDiscardCard = null;
         return discard;
@@ -25,7 +24,7 @@ public class UserPlayer extends Player {
     
     public Card chooseCardToOpen() {
         if (selectedOpenCard == null) throw new IllegalStateException("오픈 카드 미선택");
-        openCards.add(selectedOpenCard);
+        addOpenCard(selectedOpenCard);
         Card opened = selectedOpenCard;
         selectedOpenCard = null;
         return opened;
@@ -0,0 +1,55 @@
+package server;
+
+import card.Card;
+import game.BetAction;
+
+//테이블에 제출하는 사람 플레이어의 행동 (카드 버리기, 카드 오픈, 베팅)
+public final class HumanAction {
+
+    public enum Kind { DISCARD, OPEN, BET }
+
+    private final Kind kind;
+    private final Card card;         // DISCARD, OPEN일 때만 사용
+    private final BetAction bet;     // BET일 때만 사용
+
+    private HumanAction(Kind kind, Card card, BetAction bet) {
+        this.kind = kind;
+        this.card = card;
+        this.bet = bet;
+    }
+
+    //카드/베팅 행동이 null이면 IllegalArgumentException (잘못된 메시지가 테이블까지 가지 않도록)
+    public static HumanAction discard(Card card) {
+        return new HumanAction(Kind.DISCARD, require(card, "버릴 카드가 없습니다."), null);
+    }
+
+    public static HumanAction open(Card card) {
+        return new HumanAction(Kind.OPEN, require(card, "오픈할 카드가 없습니다."), null);
+    }
+
+    public static HumanAction bet(BetAction bet) {
+        return new HumanAction(Kind.BET, null, require(bet, "베팅 행동이 없습니다."));
+    }
+
+    private static <T> T require(T value, String message) {
+        if (value == null) throw new IllegalArgumentException(message);
+        return value;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Card getCard() {
+        return card;
+    }
+
+    public BetAction getBet() {
+        return bet;
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.BET ? bet.getDisplayName() : kind + " " + card;
+    }
+}
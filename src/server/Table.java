@@ -0,0 +1,316 @@
+package server;
+
+import exception.InvalidBetException;
+import game.BetAction;
+import game.GameEventListener;
+import game.GameManager;
+import game.GamePhase;
+import game.ShowdownResult;
+import player.Player;
+import player.UserPlayer;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//호스트에서 실행되는 1:1 테이블 하나 (사람 = 유저 자리, 상대 = ComputerPlayer)
+//GameManager, 덱, 플레이어는 한 번에 한 스레드에서만 사용 (다른 테이블과 공유 없음)
+//호스트가 step()을 실행하면 유저 차례가 올 때까지 진행하고, 제출된 행동이 없으면 스레드와 실행 슬롯을 놓고 반환
+//사람의 행동은 submit()으로 큐에 넣고, 행동이 들어오거나 제한 시간이 지나면 다시 step() 예약
+//제한 시간이 지나면 기본 행동(앞 카드 버리기, 가장 높은 카드 오픈, 체크 불가 시 폴드)으로 진행
+public class Table {
+
+    public enum State { WAITING, RUNNING, FINISHED, CLOSED, FAILED }
+
+    private final int id;
+    private final TableHost host;
+    private final GameManager manager;
+    private final UserPlayer user;
+    private final int hands;
+    private final long actionTimeoutNanos;
+    private final GameEventListener view;
+    private final BlockingQueue<HumanAction> actions = new LinkedBlockingQueue<>();
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final AtomicBoolean scheduled = new AtomicBoolean(); // step() 예약 또는 실행 중 (한 번에 하나만)
+
+    private volatile State state = State.WAITING;
+    private volatile boolean closed = false;
+    private volatile int handsPlayed = 0;
+    private volatile int timeouts = 0;
+    private volatile RuntimeException failure;
+
+    //아래는 step() 안에서만 사용 (step끼리는 scheduled로 순서가 정해짐)
+    private boolean inHand = false;          // 진행 중인 판이 있는지
+    private boolean waiting = false;         // 유저 행동 대기 중인지
+    private long waitDeadline;               // 대기 마감 (System.nanoTime())
+    private ScheduledFuture<?> wakeUp;       // 마감 시 step() 예약
+
+    //view: 상태 알림 대상 (step()을 실행하는 스레드에서 호출됨, null이면 알림 없음)
+    Table(TableHost host, int id, long sessionSeed, int hands, long actionTimeoutMillis, GameEventListener view) {
+        this.id = id;
+        this.host = host;
+        this.manager = new GameManager(sessionSeed);
+        manager.setTableId(id);
+        this.user = manager.getUser();
+        this.hands = hands;
+        this.actionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(actionTimeoutMillis);
+        this.view = view != null ? view : GameEventListener.NONE;
+        manager.setListener(new ViewListener());
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getHandsPlayed() {
+        return handsPlayed;
+    }
+
+    //제한 시간 초과로 기본 행동을 적용한 횟수
+    public int getTimeouts() {
+        return timeouts;
+    }
+
+    //FAILED 상태일 때 원인
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    //사람의 행동 제출 (어느 스레드에서나 호출 가능, 테이블이 끝났거나 행동이 null이면 false)
+    public boolean submit(HumanAction action) {
+        if (action == null || closed || finished.getCount() == 0) return false;
+        boolean queued = actions.offer(action);
+        schedule();
+        return queued;
+    }
+
+    //테이블 종료 요청 (진행 중인 판은 버림)
+    public void close() {
+        closed = true;
+        schedule();
+    }
+
+    //테이블이 끝날 때까지 대기
+    public boolean awaitFinished(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    boolean isFinished() {
+        return finished.getCount() == 0;
+    }
+
+    //step() 실행 예약 (이미 예약됐거나 실행 중이면 그 step이 끝날 때 다시 확인)
+    void schedule() {
+        if (scheduled.compareAndSet(false, true)) host.dispatch(this);
+    }
+
+    //유저 행동이 필요할 때까지 진행 (호스트 스레드에서 호출, 같은 테이블의 step()은 동시에 실행되지 않음)
+    void step() {
+        try {
+            if (isFinished()) return;
+            State end = closed ? State.CLOSED : advance();
+            if (end != null) finish(end);
+        } catch (RuntimeException e) {
+            failure = e;
+            finish(State.FAILED);
+        } finally {
+            scheduled.set(false);
+            // 실행 중에 들어온 행동, 종료 요청, 지난 마감은 여기서 다시 예약
+            if (!isFinished() && (closed || !actions.isEmpty() || waitExpired())) schedule();
+        }
+    }
+
+    //판을 이어서 진행, 끝나면 종료 상태 반환 (유저 행동을 기다려야 하면 null)
+    private State advance() {
+        state = State.RUNNING;
+        while (true) {
+            if (closed) return State.CLOSED;
+            if (!inHand) {
+                if (handsPlayed >= hands) return State.FINISHED;
+                if (handsPlayed == 0) {
+                    manager.startGame();
+                } else {
+                    if (!manager.canContinueGame()) return State.FINISHED; // 앤티를 낼 코인이 없으면 종료
+                    manager.startNextHand();
+                }
+                inHand = true;
+            }
+            if (!playHand()) return null;
+            inHand = false;
+            handsPlayed++;
+        }
+    }
+
+    //한 판 진행: 유저 차례마다 제출된 행동 적용 (컴퓨터 차례는 GameManager가 바로 처리)
+    //행동이 없고 마감 전이면 false (대기), 판이 끝나면 true
+    private boolean playHand() {
+        while (manager.getPhase() != GamePhase.GAME_OVER) {
+            if (closed) return false;
+            if (!isAwaitingUser()) {
+                throw new IllegalStateException("유저 입력 대기 상태가 아닙니다. (라운드: " + manager.getCurrentRound() + ")");
+            }
+            HumanAction action = actions.poll();
+            if (action != null) {
+                stopWaiting();
+                apply(action);
+            } else if (!waiting) {
+                waiting = true;
+                waitDeadline = System.nanoTime() + actionTimeoutNanos;
+                wakeUp = host.scheduleWakeUp(this, actionTimeoutNanos);
+                return false;
+            } else if (!waitExpired()) {
+                return false;
+            } else {
+                stopWaiting();
+                timeouts++;
+                applyDefaultAction();
+            }
+        }
+        return true;
+    }
+
+    private boolean waitExpired() {
+        return waiting && System.nanoTime() - waitDeadline >= 0;
+    }
+
+    private void stopWaiting() {
+        if (wakeUp != null) wakeUp.cancel(false);
+        wakeUp = null;
+        waiting = false;
+    }
+
+    private void finish(State end) {
+        stopWaiting();
+        state = end;
+        finished.countDown();
+    }
+
+    private boolean isAwaitingUser() {
+        GamePhase.Kind kind = manager.getPhase().getKind();
+        return kind == GamePhase.Kind.SELECTION
+                || (kind == GamePhase.Kind.BETTING && manager.getCurrentPlayer() == user);
+    }
+
+    //제출된 행동 적용 (현재 차례에 맞지 않으면 거부)
+    private void apply(HumanAction action) {
+        boolean selection = manager.getPhase().getKind() == GamePhase.Kind.SELECTION;
+        switch (action.getKind()) {
+            case DISCARD:
+                if (!selection || manager.isUserDiscardCompleted() || !user.getHand().contains(action.getCard())) {
+                    reject("지금은 해당 카드를 버릴 수 없습니다.");
+                    return;
+                }
+                manager.userDiscardPhase(action.getCard());
+                manager.userActionsForDiscardOpenCompleted(true);
+                return;
+            case OPEN:
+                if (!selection || !manager.isUserDiscardCompleted() || manager.isUserOpenCompleted()
+                        || !user.getHand().contains(action.getCard())) {
+                    reject("지금은 해당 카드를 오픈할 수 없습니다.");
+                    return;
+                }
+                manager.userOpenPhase(action.getCard());
+                manager.userActionsForDiscardOpenCompleted(false);
+                return;
+            case BET:
+            default:
+                if (selection) {
+                    reject("카드 선택 단계에서는 베팅할 수 없습니다.");
+                    return;
+                }
+                if (action.getBet() == null) {
+                    reject("베팅 행동이 없습니다.");
+                    return;
+                }
+                try {
+                    manager.getBettingSystem().act(user, action.getBet());
+                } catch (InvalidBetException e) {
+                    reject(e.getMessage());
+                    return;
+                }
+                manager.userBettingActionCompleted();
+        }
+    }
+
+    //제한 시간 초과 시 기본 행동
+    private void applyDefaultAction() {
+        if (manager.getPhase().getKind() == GamePhase.Kind.SELECTION) {
+            manager.userAutoSelectionCompleted(); // 유저 좌석 전략 (기본 규칙: 제일 앞 카드 버림, 가장 높은 랭크 오픈)
+            return;
+        }
+        if (!manager.getBettingSystem().tryAct(user, BetAction.CHECK)) {
+            manager.getBettingSystem().fold(user); // 체크할 수 없으면 폴드
+        }
+        manager.userBettingActionCompleted();
+    }
+
+    private void reject(String reason) {
+        view.onActionRejected(user, reason);
+    }
+
+    //view로 알림 전달, 컴퓨터 차례는 항상 GameManager가 바로 진행
+    private final class ViewListener implements GameEventListener {
+
+        @Override
+        public void onHandStarted(GameManager manager) {
+            view.onHandStarted(manager);
+        }
+
+        @Override
+        public void onStateChanged(GameManager manager) {
+            view.onStateChanged(manager);
+        }
+
+        @Override
+        public void onDiscardSelectionRequested() {
+            view.onDiscardSelectionRequested();
+        }
+
+        @Override
+        public void onOpenSelectionRequested() {
+            view.onOpenSelectionRequested();
+        }
+
+        @Override
+        public void onBettingTurn(Player player) {
+            view.onBettingTurn(player);
+        }
+
+        @Override
+        public void onBettingAction(Player player, BetAction action, long amount) {
+            view.onBettingAction(player, action, amount);
+        }
+
+        @Override
+        public void onActionRejected(Player player, String reason) {
+            view.onActionRejected(player, reason);
+        }
+
+        @Override
+        public void onAutoActionFailed(Player player, Exception e) {
+            view.onAutoActionFailed(player, e);
+        }
+
+        @Override
+        public void onHandFinished(ShowdownResult result) {
+            view.onHandFinished(result);
+        }
+
+        @Override
+        public void onNotEnoughCoins() {
+            view.onNotEnoughCoins();
+        }
+
+        @Override
+        public void onGameOver(boolean noMoney) {
+            view.onGameOver(noMoney);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package server;
+
+import game.GameEventListener;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//여러 개의 독립된 1:1 테이블(GameManager)을 동시에 실행하는 호스트
+//테이블은 유저 행동이 필요할 때까지만 실행(Table.step)하고 반환, 사람을 기다리는 동안에는 스레드도 실행 슬롯도 잡지 않음
+//가상 스레드를 지원하는 JDK(21 이상)에서는 실행마다 가상 스레드 하나, 동시에 엔진 작업을 하는 테이블 수는 세마포어로 제한
+//지원하지 않는 JDK에서는 maxActiveTables 크기의 플랫폼 스레드 풀로 실행 (초과 실행은 대기열에서 순서대로)
+//테이블끼리 상태를 공유하지 않으므로 느린 플레이어나 예외가 다른 테이블을 멈추지 않음
+public class TableHost implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore activeSlots;     // 가상 스레드일 때만 사용 (플랫폼 풀은 풀 크기로 제한)
+    private final ScheduledThreadPoolExecutor timer; // 사람 행동 제한 시간이 지나면 테이블 실행 예약
+    private final boolean virtualThreads;
+    private final Map<Integer, Table> tables = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTableId = new AtomicInteger();
+
+    public TableHost(int maxActiveTables) {
+        if (maxActiveTables <= 0) throw new IllegalArgumentException("동시 실행 테이블 수는 1 이상이어야 합니다.");
+        ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtualThreads ? virtual : Executors.newFixedThreadPool(maxActiveTables, new TableThreadFactory("table-"));
+        this.activeSlots = virtualThreads ? new Semaphore(maxActiveTables) : null;
+        this.timer = new ScheduledThreadPoolExecutor(1, new TableThreadFactory("table-timer-"));
+        timer.setRemoveOnCancelPolicy(true); // 마감 전에 행동이 오면 취소된 알림을 바로 제거
+    }
+
+    //테이블 생성 후 실행 예약
+    //sessionSeed: 판 시드 순서, hands: 최대 판 수, actionTimeoutMillis: 사람 행동 대기 시간, view: 상태 알림 (null 가능)
+    public Table openTable(long sessionSeed, int hands, long actionTimeoutMillis, GameEventListener view) {
+        Table table = new Table(this, nextTableId.getAndIncrement(), sessionSeed, hands, actionTimeoutMillis, view);
+        tables.put(table.getId(), table);
+        table.schedule();
+        return table;
+    }
+
+    //테이블 실행 예약 (Table.schedule에서 호출)
+    void dispatch(Table table) {
+        try {
+            executor.execute(() -> runStep(table));
+        } catch (RejectedExecutionException e) {
+            runStep(table); // 호스트 종료 후: 닫힌 테이블은 바로 CLOSED로 끝남
+        }
+    }
+
+    //delayNanos 뒤 테이블 실행 예약 (유저 행동 제한 시간, 호스트가 종료됐으면 null)
+    ScheduledFuture<?> scheduleWakeUp(Table table, long delayNanos) {
+        try {
+            return timer.schedule(table::schedule, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    //테이블 한 번 실행: 엔진 작업 동안만 실행 슬롯 사용
+    private void runStep(Table table) {
+        if (activeSlots != null) {
+            try {
+                activeSlots.acquire();
+            } catch (InterruptedException e) {
+                table.close();
+                table.step(); // 진행하지 않고 CLOSED로 종료
+                if (table.isFinished()) tables.remove(table.getId());
+                return;
+            }
+            try {
+                table.step();
+            } finally {
+                activeSlots.release();
+            }
+        } else {
+            table.step();
+        }
+        if (table.isFinished()) tables.remove(table.getId());
+    }
+
+    //아직 끝나지 않은 테이블 (대기 + 실행 중)
+    public List<Table> getOpenTables() {
+        return new ArrayList<>(tables.values());
+    }
+
+    public int getOpenTableCount() {
+        return tables.size();
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    //모든 테이블 종료 후 스레드 정리
+    @Override
+    public void close() {
+        for (Table table : tables.values()) table.close();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) executor.shutdownNow();
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            timer.shutdownNow();
+        }
+    }
+
+    //Executors.newVirtualThreadPerTaskExecutor() (JDK 21 이상)를 리플렉션으로 호출, 없으면 null
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    //플랫폼 스레드 풀, 타이머용 데몬 스레드 (테이블이 남아 있어도 JVM 종료 가능)
+    private static final class TableThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        TableThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
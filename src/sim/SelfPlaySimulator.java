@@ -0,0 +1,200 @@
+package sim;
+
+import equity.EquityStrategy;
+import equity.StartingHandStrategy;
+import equity.StartingHandTable;
+import game.CompositeGameEventListener;
+import game.GameEventListener;
+import game.GameManager;
+import game.GamePhase;
+import game.RuleBasedStrategy;
+import game.ShowdownResult;
+import game.Strategy;
+import history.HandHistoryWriter;
+import player.Player;
+import player.UserPlayer;
+import solver.CfrStrategy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+//GUI 없는 셀프 플레이 시뮬레이터: 유저 자리와 컴퓨터 자리 모두 BettingSystem.autoAction으로 진행
+//테이블(GameManager)마다 독립된 덱 시드로 판을 돌리고, 테이블 단위로 fork/join 병렬 실행
+//매 판 startGame()으로 시작하므로 양쪽 모두 같은 코인(10000), 같은 앤티로 시작 (판끼리 독립)
+//기록 디렉터리를 지정하면 테이블마다 핸드 히스토리(table-N-000000.hh ...)를 남김
+//컴퓨터 전략을 지정하면 컴퓨터 자리만 그 전략으로 판단 (유저 자리는 기본 규칙, 칩 손익으로 비교)
+//시작 패 표 파일을 지정하면 컴퓨터 버리기/오픈은 표 조회 (베팅은 에퀴티 전략 또는 기본 규칙)
+//CFR 체크포인트(CfrTrainer)를 지정하면 컴퓨터 베팅은 학습한 평균 전략 (에퀴티 전략 제한 시간과 함께 지정할 수 없음)
+//사용법: java sim.SelfPlaySimulator <판 수> [테이블 수] [시드] [기록 디렉터리|-] [에퀴티 전략 제한 시간(us)|-] [시작 패 표 파일|-] [CFR 체크포인트 파일]
+public class SelfPlaySimulator {
+
+    private static final int STARTING_COIN = 10000; // GameManager.startGame() 초기 코인
+    private static final int MAX_STEPS_PER_HAND = 200; // 진행이 멈춘 판 감지용
+
+    private final ForkJoinPool pool;
+    private final Path historyDirectory; // null이면 기록 없음
+    private final Strategy computerStrategy; // null이면 기본 규칙 (상태 없는 전략만, 테이블끼리 공유)
+    private final long decisionBudgetNanos;   // 판단 하나의 제한 시간 (GameManager.setDecisionBudgetNanos)
+
+    public SelfPlaySimulator() {
+        this(ForkJoinPool.commonPool(), null);
+    }
+
+    public SelfPlaySimulator(ForkJoinPool pool, Path historyDirectory) {
+        this(pool, historyDirectory, null, GameManager.DEFAULT_DECISION_BUDGET_NANOS);
+    }
+
+    public SelfPlaySimulator(ForkJoinPool pool, Path historyDirectory, Strategy computerStrategy, long decisionBudgetNanos) {
+        this.pool = pool;
+        this.historyDirectory = historyDirectory;
+        this.computerStrategy = computerStrategy;
+        this.decisionBudgetNanos = decisionBudgetNanos;
+    }
+
+    //hands 판을 tables 개 테이블에 나눠 실행 (같은 seed면 같은 결과)
+    public SimulationResult run(long hands, int tables, long seed) {
+        if (hands < 0 || tables <= 0) throw new IllegalArgumentException("판 수 또는 테이블 수가 올바르지 않습니다.");
+        long start = System.nanoTime();
+        SimulationResult result = pool.invoke(new TableTask(0, tables, hands, tables, this,
+                new SplittableRandom(seed)));
+        return result.withElapsedNanos(System.nanoTime() - start);
+    }
+
+    //테이블 범위를 절반씩 나눠 병렬 실행하는 작업
+    @SuppressWarnings("serial") // 직렬화하지 않음
+    private static final class TableTask extends RecursiveTask<SimulationResult> {
+
+        private final int firstTable;
+        private final int tableCount;
+        private final long totalHands;
+        private final int totalTables;
+        private final SelfPlaySimulator config;
+        private final SplittableRandom random;
+
+        TableTask(int firstTable, int tableCount, long totalHands, int totalTables, SelfPlaySimulator config,
+                  SplittableRandom random) {
+            this.firstTable = firstTable;
+            this.tableCount = tableCount;
+            this.totalHands = totalHands;
+            this.totalTables = totalTables;
+            this.config = config;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (tableCount == 1) {
+                long hands = totalHands / totalTables + (firstTable < totalHands % totalTables ? 1 : 0);
+                if (config.historyDirectory == null) return config.playTable(firstTable, hands, random.nextLong(), null);
+                try (HandHistoryWriter writer = new HandHistoryWriter(config.historyDirectory, "table-" + firstTable)) {
+                    return config.playTable(firstTable, hands, random.nextLong(), writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            int half = tableCount / 2;
+            // 난수 생성기는 나누기 전에 분기하여 작업 순서와 무관하게 같은 테이블 시드 사용
+            TableTask left = new TableTask(firstTable, half, totalHands, totalTables, config, random.split());
+            TableTask right = new TableTask(firstTable + half, tableCount - half, totalHands, totalTables,
+                    config, random.split());
+            left.fork();
+            SimulationResult rightResult = right.compute();
+            return left.join().plus(rightResult);
+        }
+    }
+
+    //테이블 하나에서 hands 판 진행 (history가 null이면 기록 없음)
+    SimulationResult playTable(int tableId, long hands, long sessionSeed, GameEventListener history) {
+        GameManager manager = new GameManager(sessionSeed);
+        manager.setTableId(tableId);
+        manager.setStrategy(manager.getComputer(), computerStrategy);
+        manager.setDecisionBudgetNanos(decisionBudgetNanos);
+        HandRecorder recorder = new HandRecorder();
+        manager.setListener(history == null ? recorder : new CompositeGameEventListener(recorder, history));
+        UserPlayer user = manager.getUser();
+
+        long start = System.nanoTime();
+        long userNetChips = 0, userWins = 0, folds = 0, showdowns = 0;
+        for (long h = 0; h < hands; h++) {
+            recorder.result = null;
+            manager.startGame();
+            playHand(manager, user);
+
+            ShowdownResult result = recorder.result;
+            if (result == null) throw new IllegalStateException("판이 끝나지 않았습니다. (라운드: " + manager.getCurrentRound() + ")");
+            userNetChips += user.getCoin() - STARTING_COIN;
+            if (result.getWinner() == user) userWins++;
+            if (result.isFold()) folds++;
+            else showdowns++;
+        }
+        return new SimulationResult(hands, userNetChips, userWins, folds, showdowns,
+                recorder.autoActionFailures, System.nanoTime() - start);
+    }
+
+    //유저 자리 진행: 버리기/오픈/베팅 모두 유저 좌석 전략(기본 규칙)
+    private static void playHand(GameManager manager, UserPlayer user) {
+        manager.userAutoSelectionCompleted(); // 버리기
+        manager.userAutoSelectionCompleted(); // 오픈
+
+        // 유저 차례마다 자동 베팅 (컴퓨터 차례는 GameManager가 바로 처리)
+        int steps = 0;
+        while (manager.getPhase() != GamePhase.GAME_OVER) {
+            if (++steps > MAX_STEPS_PER_HAND || manager.getCurrentPlayer() != user) {
+                throw new IllegalStateException("진행이 멈췄습니다. (라운드: " + manager.getCurrentRound() + ")");
+            }
+            manager.userAutoActionCompleted();
+        }
+    }
+
+    //판 결과와 자동 베팅 실패 횟수 기록 (문자열 생성 없음)
+    private static final class HandRecorder implements GameEventListener {
+
+        ShowdownResult result;
+        long autoActionFailures;
+
+        @Override
+        public void onHandFinished(ShowdownResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public void onAutoActionFailed(Player player, Exception e) {
+            autoActionFailures++;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("사용법: java sim.SelfPlaySimulator <판 수> [테이블 수] [시드] [기록 디렉터리|-] [에퀴티 전략 제한 시간(us)|-] [시작 패 표 파일|-] [CFR 체크포인트 파일]");
+            return;
+        }
+        long hands = Long.parseLong(args[0]);
+        int tables = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        Path historyDirectory = args.length > 3 && !args[3].equals("-") ? Paths.get(args[3]) : null;
+        boolean equity = args.length > 4 && !args[4].equals("-");
+        Strategy computerStrategy = equity ? new EquityStrategy() : null;
+        long decisionBudgetNanos = equity ? Long.parseLong(args[4]) * 1000L : GameManager.DEFAULT_DECISION_BUDGET_NANOS;
+        if (args.length > 6) { // 컴퓨터 베팅은 CFR 평균 전략
+            if (equity) {
+                System.out.println("에퀴티 전략 제한 시간과 CFR 체크포인트는 함께 지정할 수 없습니다. (에퀴티 자리에 - 사용)");
+                return;
+            }
+            computerStrategy = CfrStrategy.load(Paths.get(args[6]));
+        }
+        if (args.length > 5 && !args[5].equals("-")) { // 컴퓨터 버리기/오픈은 시작 패 표 조회
+            computerStrategy = new StartingHandStrategy(StartingHandTable.load(Paths.get(args[5])),
+                    computerStrategy != null ? computerStrategy : RuleBasedStrategy.INSTANCE);
+        }
+
+        SimulationResult result = new SelfPlaySimulator(ForkJoinPool.commonPool(), historyDirectory, computerStrategy,
+                decisionBudgetNanos).run(hands, tables, seed);
+        System.out.println("테이블 " + tables + "개, 시드 " + seed);
+        System.out.println(result);
+    }
+}
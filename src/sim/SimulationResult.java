@@ -0,0 +1,95 @@
+package sim;
+
+//셀프 플레이 집계 결과 (유저 자리 기준 칩 손익)
+public final class SimulationResult {
+
+    private final long hands;
+    private final long userNetChips;      // 유저 자리 누적 칩 손익 (컴퓨터 자리는 부호 반대)
+    private final long userWins;
+    private final long folds;             // 폴드로 끝난 판
+    private final long showdowns;         // 쇼다운까지 간 판
+    private final long autoActionFailures; // autoAction 예외로 강제 폴드된 횟수
+    private final long elapsedNanos;
+
+    public SimulationResult(long hands, long userNetChips, long userWins, long folds, long showdowns,
+                            long autoActionFailures, long elapsedNanos) {
+        this.hands = hands;
+        this.userNetChips = userNetChips;
+        this.userWins = userWins;
+        this.folds = folds;
+        this.showdowns = showdowns;
+        this.autoActionFailures = autoActionFailures;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getHands() {
+        return hands;
+    }
+
+    public long getUserNetChips() {
+        return userNetChips;
+    }
+
+    public long getUserWins() {
+        return userWins;
+    }
+
+    public long getFolds() {
+        return folds;
+    }
+
+    public long getShowdowns() {
+        return showdowns;
+    }
+
+    public long getAutoActionFailures() {
+        return autoActionFailures;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    //초당 처리한 판 수
+    public double getHandsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : hands * 1e9 / elapsedNanos;
+    }
+
+    //100판당 유저 자리 칩 손익
+    public double getUserChipsPer100() {
+        return hands == 0 ? 0.0 : userNetChips * 100.0 / hands;
+    }
+
+    public double getUserWinRate() {
+        return hands == 0 ? 0.0 : (double) userWins / hands;
+    }
+
+    public double getFoldRate() {
+        return hands == 0 ? 0.0 : (double) folds / hands;
+    }
+
+    public double getShowdownRate() {
+        return hands == 0 ? 0.0 : (double) showdowns / hands;
+    }
+
+    //두 결과 합산 (경과 시간은 병렬 실행이므로 큰 쪽 사용)
+    public SimulationResult plus(SimulationResult other) {
+        return new SimulationResult(hands + other.hands, userNetChips + other.userNetChips,
+                userWins + other.userWins, folds + other.folds, showdowns + other.showdowns,
+                autoActionFailures + other.autoActionFailures, Math.max(elapsedNanos, other.elapsedNanos));
+    }
+
+    //전체 경과 시간 지정
+    public SimulationResult withElapsedNanos(long nanos) {
+        return new SimulationResult(hands, userNetChips, userWins, folds, showdowns, autoActionFailures, nanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("판 %d (%.0f 판/초)%n"
+                        + "유저 칩 손익 %+d (100판당 %+.1f), 유저 승률 %.4f%n"
+                        + "폴드 %.4f / 쇼다운 %.4f, autoAction 실패 %d",
+                hands, getHandsPerSecond(), userNetChips, getUserChipsPer100(), getUserWinRate(),
+                getFoldRate(), getShowdownRate(), autoActionFailures);
+    }
+}
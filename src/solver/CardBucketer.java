@@ -0,0 +1,104 @@
+package solver;
+
+import card.Card;
+import card.CardMask;
+import game.HandRank;
+import game.SevenCardEvaluator;
+
+//CFR 카드 추상화: 내 패 등급(완성 족보 8단계 x 드로우 여부) x 상대 오픈카드 위협 등급(4단계) = 64개 버킷
+//문양별 랭크 마스크와 7장 평가 테이블만 사용 (객체 생성 없음), 학습과 실전(CfrStrategy)에서 같은 함수 사용
+public final class CardBucketer {
+
+    public static final int HAND_CLASSES = 8;
+    public static final int OPPONENT_CLASSES = 4;
+    public static final int BUCKETS = HAND_CLASSES * 2 * OPPONENT_CLASSES;
+
+    private static final int FINAL_HAND_SIZE = 7;
+    private static final int RANK_BITS = 0x1FFF;
+    private static final int ACE_LOW_MASK = 0x100F; // A, 2, 3, 4, 5
+    private static final Card.Suit[] SUITS = Card.Suit.values();
+
+    private CardBucketer() {
+    }
+
+    //heroCards: 내 패 전체, opponentOpen: 상대 오픈카드
+    public static int bucket(long heroCards, long opponentOpen) {
+        int cardsToCome = FINAL_HAND_SIZE - CardMask.size(heroCards);
+        int handClass = handClass(heroCards);
+        int draw = cardsToCome > 0 && handClass < 6 && hasDraw(heroCards, cardsToCome) ? 1 : 0;
+        return (handClass * 2 + draw) * OPPONENT_CLASSES + opponentClass(opponentOpen);
+    }
+
+    //0: 하이(Q 미만), 1: 하이(Q 이상), 2: 낮은 원페어(10 미만), 3: 높은 원페어, 4: 투페어, 5: 트리플, 6: 스트레이트/플러시, 7: 풀하우스 이상
+    static int handClass(long cards) {
+        int clubs = CardMask.suitRanks(cards, Card.Suit.CLUBS);
+        int diamonds = CardMask.suitRanks(cards, Card.Suit.DIAMONDS);
+        int hearts = CardMask.suitRanks(cards, Card.Suit.HEARTS);
+        int spades = CardMask.suitRanks(cards, Card.Suit.SPADES);
+        if (CardMask.size(cards) >= 5) {
+            int strength = SevenCardEvaluator.evaluate(clubs, diamonds, hearts, spades);
+            HandRank rank = SevenCardEvaluator.handRankOf(strength);
+            switch (rank) {
+                case HIGH_CARD: return SevenCardEvaluator.rankAt(strength, 0) >= 12 ? 1 : 0;
+                case ONE_PAIR: return SevenCardEvaluator.rankAt(strength, 0) >= 10 ? 3 : 2;
+                case TWO_PAIR: return 4;
+                case TRIPS: return 5;
+                case STRAIGHT:
+                case FLUSH: return 6;
+                default: return 7;
+            }
+        }
+        // 5장 미만: 같은 랭크 장수로 판정
+        int pairs = 0, trips = 0, quads = 0, topPair = 0;
+        for (int bit = 12; bit >= 0; bit--) {
+            int count = (clubs >>> bit & 1) + (diamonds >>> bit & 1) + (hearts >>> bit & 1) + (spades >>> bit & 1);
+            if (count == 2) {
+                if (pairs++ == 0) topPair = bit + 2;
+            } else if (count == 3) {
+                trips++;
+            } else if (count == 4) {
+                quads++;
+            }
+        }
+        if (quads > 0) return 7;
+        if (trips > 0) return 5;
+        if (pairs >= 2) return 4;
+        if (pairs == 1) return topPair >= 10 ? 3 : 2;
+        return topRank(clubs | diamonds | hearts | spades) >= 12 ? 1 : 0;
+    }
+
+    //플러시 드로우(같은 문양 4장, 또는 3장 + 3장 이상 남음) 또는 스트레이트 드로우(5랭크 구간에 4랭크)
+    static boolean hasDraw(long cards, int cardsToCome) {
+        int maxSuit = 0;
+        int ranks = 0;
+        for (Card.Suit suit : SUITS) {
+            int suitRanks = CardMask.suitRanks(cards, suit);
+            maxSuit = Math.max(maxSuit, Integer.bitCount(suitRanks));
+            ranks |= suitRanks;
+        }
+        if (maxSuit >= 4 || (maxSuit == 3 && cardsToCome >= 3)) return true;
+        if (Integer.bitCount(ranks & ACE_LOW_MASK) >= 4) return true;
+        for (int low = 0; low <= 8; low++) {
+            if (Integer.bitCount(ranks >>> low & 0x1F) >= 4) return true;
+        }
+        return false;
+    }
+
+    //0: 하이(J 미만), 1: 하이(J 이상), 2: 원페어, 3: 투페어 이상
+    static int opponentClass(long open) {
+        int ranks = 0, paired = 0, pairedTwice = 0;
+        for (Card.Suit suit : SUITS) {
+            int suitRanks = CardMask.suitRanks(open, suit);
+            pairedTwice |= paired & suitRanks;
+            paired |= ranks & suitRanks;
+            ranks |= suitRanks;
+        }
+        if (pairedTwice != 0 || Integer.bitCount(paired) >= 2) return 3;
+        if (paired != 0) return 2;
+        return ranks != 0 && topRank(ranks) >= 11 ? 1 : 0;
+    }
+
+    private static int topRank(int ranks) {
+        return ranks == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(ranks & RANK_BITS) + 2;
+    }
+}
@@ -0,0 +1,81 @@
+package solver;
+
+import card.Card;
+import game.BetAction;
+import game.GameView;
+import game.RuleBasedStrategy;
+import game.Strategy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+//CfrTrainer로 학습한 평균 전략으로 베팅하는 봇 (버리기/오픈은 학습 추상화와 같은 기본 규칙)
+//정보 집합마다 평균 전략 가중치를 배열로 복사해 두고 판단은 조회 + 난수 하나 (마감과 무관, 테이블끼리 공유 가능)
+//학습 중 한 번도 가지 않은 정보 집합이면 기본 규칙으로 베팅
+public class CfrStrategy implements Strategy {
+
+    private static final int ACTIONS = CfrTables.ACTIONS;
+
+    private final float[] weights = new float[CfrTables.INFOSETS * ACTIONS]; // [정보 집합 * ACTIONS + BetAction.ordinal()]
+    private final long iterations;
+
+    public CfrStrategy(CfrTables tables) {
+        for (int infoset = 0; infoset < CfrTables.INFOSETS; infoset++) {
+            for (int a = 0; a < ACTIONS; a++) {
+                weights[infoset * ACTIONS + a] = Math.max(0f, tables.strategyWeight(infoset, a));
+            }
+        }
+        iterations = tables.getIterations();
+    }
+
+    //체크포인트 파일에서 생성
+    public static CfrStrategy load(Path checkpoint) throws IOException {
+        return new CfrStrategy(CfrTables.load(checkpoint));
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    @Override
+    public Card chooseDiscard(GameView view, long deadlineNanos) {
+        return RuleBasedStrategy.INSTANCE.chooseDiscard(view, deadlineNanos);
+    }
+
+    @Override
+    public Card chooseOpen(GameView view, long deadlineNanos) {
+        return RuleBasedStrategy.INSTANCE.chooseOpen(view, deadlineNanos);
+    }
+
+    @Override
+    public BetAction chooseBet(GameView view, long deadlineNanos) {
+        int round = view.getBettingRound() - 1;
+        if (round < 0 || round >= CfrTables.ROUNDS) return RuleBasedStrategy.INSTANCE.chooseBet(view, deadlineNanos);
+        int legal = view.getLegalActions();
+        if (view.getAmountToCall() == 0) legal &= ~BetAction.FOLD.bit(); // 학습 추상화처럼 체크할 수 있으면 폴드 안 함
+
+        int infoset = CfrTables.infoset(round,
+                CfrTables.stackClass(Math.min(view.getCoin(), view.getOpponentCoin()), view.getPot()),
+                CfrTables.node(view.hasActed(), view.hasOpponentActed(),
+                        view.getRaiseCount() > 0, view.getOpponentRaiseCount() > 0),
+                CardBucketer.bucket(view.getHandMask(), view.getOpponentOpenMask()));
+        int base = infoset * ACTIONS;
+        double total = 0;
+        for (int a = 0; a < ACTIONS; a++) {
+            if ((legal & (1 << a)) != 0) total += weights[base + a];
+        }
+        if (total <= 0) return RuleBasedStrategy.INSTANCE.chooseBet(view, deadlineNanos);
+
+        // 가능한 행동의 평균 전략 비율대로 표본
+        double r = view.nextRandom() * total;
+        BetAction last = null;
+        for (BetAction action : BetAction.values()) {
+            float weight = weights[base + action.ordinal()];
+            if (!action.isIn(legal) || weight <= 0) continue;
+            last = action;
+            r -= weight;
+            if (r < 0) return action;
+        }
+        return last;
+    }
+}
@@ -0,0 +1,162 @@
+package solver;
+
+import game.BetAction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+//CFR 누적 후회값/전략 합 저장소 (다이렉트 ByteBuffer의 float 배열, 힙 밖)
+//정보 집합 = 베팅 라운드 x 유효 스택 등급 x 라운드 내 베팅 노드 x 카드 버킷, 번호는 곱셈/덧셈만으로 계산 (O(1))
+//행동 칸은 BetAction.ordinal() (불가능한 행동 칸은 0으로 남음)
+//여러 스레드가 잠금 없이 갱신 (일부 갱신이 덮어써질 수 있지만 표본 기반 CFR 수렴에는 영향이 작음)
+public final class CfrTables {
+
+    public static final int ROUNDS = 5;
+    public static final int STACK_CLASSES = 4;
+    public static final int NODES = 16;
+    public static final int ACTIONS = BetAction.values().length;
+    public static final int INFOSETS = ROUNDS * STACK_CLASSES * NODES * CardBucketer.BUCKETS;
+
+    //체크포인트 파일: 헤더 + 후회값 float[INFOSETS * ACTIONS] + 전략 합 float[INFOSETS * ACTIONS] (리틀 엔디언)
+    private static final int MAGIC = 0x53524643; // "CFRS"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+
+    private final ByteBuffer regretBytes;
+    private final ByteBuffer strategyBytes;
+    private final FloatBuffer regrets;
+    private final FloatBuffer strategySum;
+    private long iterations;
+
+    public CfrTables() {
+        int bytes = INFOSETS * ACTIONS * Float.BYTES;
+        regretBytes = ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        strategyBytes = ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        regrets = regretBytes.asFloatBuffer();
+        strategySum = strategyBytes.asFloatBuffer();
+    }
+
+    //정보 집합 번호 (round: 0~4, stackClass: stackClass(), node: node(), bucket: CardBucketer.bucket())
+    public static int infoset(int round, int stackClass, int node, int bucket) {
+        return ((round * STACK_CLASSES + stackClass) * NODES + node) * CardBucketer.BUCKETS + bucket;
+    }
+
+    //라운드 내 베팅 노드: 이번 라운드에 나/상대가 행동했는지, 레이즈했는지
+    public static int node(boolean acted, boolean opponentActed, boolean raised, boolean opponentRaised) {
+        return (acted ? 1 : 0) | (opponentActed ? 2 : 0) | (raised ? 4 : 0) | (opponentRaised ? 8 : 0);
+    }
+
+    //유효 스택(두 플레이어 중 적은 보유 코인) / 팟 등급: 0 = 없음, 1 = 1/4 미만, 2 = 3/4 미만, 3 = 그 이상
+    public static int stackClass(long effectiveStack, long pot) {
+        if (effectiveStack <= 0) return 0;
+        if (pot <= 0 || effectiveStack * 4 >= pot * 3) return 3;
+        return effectiveStack * 4 < pot ? 1 : 2;
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    void addIterations(long count) {
+        iterations += count;
+    }
+
+    //후회값 매칭: 가능한 행동(legal 비트마스크)의 양수 후회값 비율, 모두 0이면 균등 (out[BetAction.ordinal()])
+    void currentStrategy(int infoset, int legal, double[] out) {
+        normalize(regrets, infoset, legal, out);
+    }
+
+    //평균 전략 (학습 결과)
+    public void averageStrategy(int infoset, int legal, double[] out) {
+        normalize(strategySum, infoset, legal, out);
+    }
+
+    //평균 전략 누적값 (정규화 전)
+    float strategyWeight(int infoset, int action) {
+        return strategySum.get(infoset * ACTIONS + action);
+    }
+
+    //후회값 누적, 음수는 0으로 자름 (CFR+), 읽고 쓰기가 원자적이지 않아 다른 스레드와 겹치면 한쪽 갱신이 사라짐
+    void addRegret(int infoset, int action, double delta) {
+        int at = infoset * ACTIONS + action;
+        regrets.put(at, (float) Math.max(0.0, regrets.get(at) + delta));
+    }
+
+    void addStrategy(int infoset, int action, double weight) {
+        int at = infoset * ACTIONS + action;
+        strategySum.put(at, (float) (strategySum.get(at) + weight));
+    }
+
+    private static void normalize(FloatBuffer values, int infoset, int legal, double[] out) {
+        int base = infoset * ACTIONS;
+        double sum = 0;
+        int count = 0;
+        for (int a = 0; a < ACTIONS; a++) {
+            if ((legal & (1 << a)) == 0) {
+                out[a] = 0;
+                continue;
+            }
+            double value = Math.max(0f, values.get(base + a));
+            out[a] = value;
+            sum += value;
+            count++;
+        }
+        for (int a = 0; a < ACTIONS; a++) {
+            if ((legal & (1 << a)) == 0) continue;
+            out[a] = sum > 0 ? out[a] / sum : 1.0 / count;
+        }
+    }
+
+    //임시 파일에 쓴 뒤 교체 (쓰는 도중 중단돼도 이전 체크포인트 유지)
+    public void save(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) ACTIONS);
+        header.putInt(ROUNDS).putInt(STACK_CLASSES).putInt(NODES).putInt(CardBucketer.BUCKETS);
+        header.putLong(iterations).flip();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            writeFully(channel, regretBytes.duplicate().clear());
+            writeFully(channel, strategyBytes.duplicate().clear());
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    //체크포인트 읽기 (추상화 크기가 다르면 IOException)
+    public static CfrTables load(Path file) throws IOException {
+        CfrTables tables = new CfrTables();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getShort() != VERSION || header.getShort() != ACTIONS
+                    || header.getInt() != ROUNDS || header.getInt() != STACK_CLASSES
+                    || header.getInt() != NODES || header.getInt() != CardBucketer.BUCKETS) {
+                throw new IOException("CFR 체크포인트 형식이 아닙니다: " + file);
+            }
+            tables.iterations = header.getLong();
+            readFully(channel, tables.regretBytes.duplicate().clear());
+            readFully(channel, tables.strategyBytes.duplicate().clear());
+        }
+        return tables;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new IOException("CFR 체크포인트가 잘렸습니다.");
+        }
+    }
+}
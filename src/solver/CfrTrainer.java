@@ -0,0 +1,399 @@
+package solver;
+
+import game.BetAction;
+import game.GameManager;
+import game.OpenBoardTable;
+import game.SevenCardEvaluator;
+import metrics.EngineMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//헤즈업 세븐 포커 추상화 게임의 외부 표본 MCCFR 학습기 (External Sampling Monte Carlo CFR, 후회값은 CFR+처럼 0 이상)
+//게임 규칙은 GameManager/BettingSystem과 같음: 시작 코인 10000, 앤티 5000, 베팅 라운드 5번,
+//체크/콜/쿼터/하프 레이즈/폴드, 라운드마다 플레이어당 레이즈 1번, 선 플레이어는 첫 오픈카드/오픈 족보 순
+//추상화: 카드는 CardBucketer 버킷, 베팅 상태는 CfrTables 노드와 유효 스택 등급, 버리기/오픈은 기본 규칙 고정
+//(체크할 수 있을 때의 폴드는 제외, 쇼다운 무승부는 팟을 나눔)
+//반복을 fork/join으로 나눠 모든 코어에서 학습, 배치가 끝날 때마다(모든 스레드가 멈춘 상태) 체크포인트 저장
+//(배치 안에서는 잠금 없이 갱신하므로 동시에 덮어써진 갱신은 체크포인트에도 빠져 있음, CfrTables 참고)
+//사용법: java solver.CfrTrainer <반복 수> <체크포인트 파일> [체크포인트 간격] [시드] (파일이 있으면 이어서 학습)
+public class CfrTrainer {
+
+    private static final int LEAF_ITERATIONS = 512; // 작업 하나가 직접 실행하는 반복 수
+    private static final long DEFAULT_CHECKPOINT_EVERY = 200_000L;
+
+    private final CfrTables tables;
+    private final ForkJoinPool pool;
+
+    public CfrTrainer(CfrTables tables) {
+        this(tables, ForkJoinPool.commonPool());
+    }
+
+    public CfrTrainer(CfrTables tables, ForkJoinPool pool) {
+        this.tables = tables;
+        this.pool = pool;
+    }
+
+    public CfrTables getTables() {
+        return tables;
+    }
+
+    //iterations번 학습 (반복 1번 = 두 플레이어가 각각 표본 판 하나를 탐색)
+    public void train(long iterations, long seed) {
+        if (iterations <= 0) return;
+        pool.invoke(new IterationTask(tables, iterations, new SplittableRandom(seed)));
+        tables.addIterations(iterations);
+    }
+
+    //checkpointEvery번마다 checkpoint 파일에 저장하며 학습
+    public void train(long iterations, long checkpointEvery, Path checkpoint, long seed) throws IOException {
+        train(iterations, checkpointEvery, checkpoint, seed, null);
+    }
+
+    //listener가 있으면 체크포인트를 저장할 때마다 알림
+    public void train(long iterations, long checkpointEvery, Path checkpoint, long seed,
+                      CheckpointListener listener) throws IOException {
+        if (checkpointEvery <= 0) throw new IllegalArgumentException("체크포인트 간격은 1 이상이어야 합니다.");
+        SplittableRandom random = new SplittableRandom(seed);
+        for (long done = 0; done < iterations; ) {
+            long batch = Math.min(checkpointEvery, iterations - done);
+            long start = System.nanoTime();
+            train(batch, random.nextLong());
+            long elapsed = System.nanoTime() - start;
+            done += batch;
+            tables.save(checkpoint);
+            if (listener != null) listener.checkpointSaved(tables.getIterations(), batch * 1e9 / elapsed);
+        }
+    }
+
+    //체크포인트 저장 알림 (totalIterations: 누적 반복 수, iterationsPerSecond: 방금 배치의 학습 속도)
+    public interface CheckpointListener {
+        void checkpointSaved(long totalIterations, double iterationsPerSecond);
+    }
+
+    //반복을 절반씩 나눠 병렬 실행하는 작업
+    @SuppressWarnings("serial") // 직렬화하지 않음
+    private static final class IterationTask extends RecursiveAction {
+
+        private final CfrTables tables;
+        private final long iterations;
+        private final SplittableRandom random;
+
+        IterationTask(CfrTables tables, long iterations, SplittableRandom random) {
+            this.tables = tables;
+            this.iterations = iterations;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (iterations <= LEAF_ITERATIONS) {
+                Worker worker = new Worker(tables, random);
+                for (long i = 0; i < iterations; i++) {
+                    worker.iterate(0);
+                    worker.iterate(1);
+                }
+                EngineMetrics.evaluations(4 * iterations); // 판마다 쇼다운 평가 2번
+                return;
+            }
+            long half = iterations / 2;
+            // 난수 생성기는 나누기 전에 분기
+            IterationTask left = new IterationTask(tables, half, random.split());
+            IterationTask right = new IterationTask(tables, iterations - half, random.split());
+            invokeAll(left, right);
+        }
+    }
+
+    //추상화 게임의 베팅 상태 (좌석 0, 1)
+    private static final class Node {
+
+        final long[] stack = new long[2];
+        final long[] committed = new long[2];
+        final boolean[] acted = new boolean[2];
+        final boolean[] raised = new boolean[2];
+        long pot;
+        long currentBet;
+        int round;
+        int actor;
+        int folded;
+
+        void copyFrom(Node other) {
+            System.arraycopy(other.stack, 0, stack, 0, 2);
+            System.arraycopy(other.committed, 0, committed, 0, 2);
+            System.arraycopy(other.acted, 0, acted, 0, 2);
+            System.arraycopy(other.raised, 0, raised, 0, 2);
+            pot = other.pot;
+            currentBet = other.currentBet;
+            round = other.round;
+            actor = other.actor;
+            folded = other.folded;
+        }
+    }
+
+    //스레드 하나의 학습 상태 (탐색 깊이별 노드와 전략 버퍼를 미리 만들어 재사용)
+    private static final class Worker {
+
+        private static final int START_COIN = 10000;         // GameManager.startGame() 초기 코인
+        private static final int ANTE = GameManager.ANTE_AMOUNT;
+        private static final int ROUNDS = CfrTables.ROUNDS;
+        private static final int ACTIONS = CfrTables.ACTIONS;
+        private static final int MAX_DEPTH = ROUNDS * 4 + 2;   // 라운드당 최대 행동 4번
+        private static final int FOLD = BetAction.FOLD.ordinal();
+        private static final int CHECK = BetAction.CHECK.ordinal();
+        private static final int CALL = BetAction.CALL.ordinal();
+        private static final int QUARTER_RAISE = BetAction.QUARTER_RAISE.ordinal();
+        private static final int HALF_RAISE = BetAction.HALF_RAISE.ordinal();
+
+        private final CfrTables tables;
+        private final SplittableRandom random;
+        private final int[] deck = new int[52];
+        private final long[][] hands = new long[ROUNDS][2];     // 라운드별 좌석 패
+        private final long[][] opens = new long[ROUNDS][2];     // 라운드별 좌석 오픈카드
+        private final int[][] buckets = new int[ROUNDS][2];     // 라운드별 좌석 카드 버킷
+        private final int[][] openStrength = new int[ROUNDS][2]; // 라운드별 오픈 족보 강도 (선 플레이어 결정)
+        private final int[] firstOpen = new int[2];             // 직접 고른 오픈카드 코드
+        private final int[] showdown = new int[2];              // 7장 족보 강도
+        private final Node[] nodes = new Node[MAX_DEPTH + 1];
+        private final double[][] strategies = new double[MAX_DEPTH + 1][ACTIONS];
+        private final double[][] utilities = new double[MAX_DEPTH + 1][ACTIONS];
+
+        Worker(CfrTables tables, SplittableRandom random) {
+            this.tables = tables;
+            this.random = random;
+            for (int i = 0; i < deck.length; i++) deck[i] = i;
+            for (int i = 0; i < nodes.length; i++) nodes[i] = new Node();
+        }
+
+        //표본 판 하나를 배분하고 traverser 좌석 기준으로 탐색
+        void iterate(int traverser) {
+            deal();
+            Node root = nodes[0];
+            for (int seat = 0; seat < 2; seat++) {
+                root.stack[seat] = START_COIN - ANTE;
+            }
+            root.pot = 2L * ANTE;
+            root.round = 0;
+            root.folded = -1;
+            root.actor = 0;
+            startRound(root);
+            walk(0, traverser);
+        }
+
+        //GameManager와 같은 순서로 배분: 4장씩 번갈아, 제일 앞 카드 버림, 남은 3장 중 가장 높은 랭크 오픈,
+        //4~6번째 카드 오픈, 7번째 카드 히든
+        private void deal() {
+            for (int i = 0; i < 16; i++) {
+                int j = i + random.nextInt(deck.length - i);
+                int code = deck[j];
+                deck[j] = deck[i];
+                deck[i] = code;
+            }
+            for (int seat = 0; seat < 2; seat++) {
+                long hand = 0L;
+                int open = -1;
+                for (int i = 1; i < 4; i++) { // deck[seat]은 버린 카드
+                    int code = deck[2 * i + seat];
+                    hand |= 1L << code;
+                    if (open < 0 || rankOf(code) > rankOf(open)) open = code;
+                }
+                firstOpen[seat] = open;
+                long openCards = 1L << open;
+                for (int round = 0; round < ROUNDS; round++) {
+                    if (round > 0) {
+                        long card = 1L << deck[6 + 2 * round + seat];
+                        hand |= card;
+                        if (round < ROUNDS - 1) openCards |= card;
+                    }
+                    hands[round][seat] = hand;
+                    opens[round][seat] = openCards;
+                    openStrength[round][seat] = OpenBoardTable.strength(rankKey(openCards), Long.bitCount(openCards));
+                }
+                showdown[seat] = SevenCardEvaluator.evaluate(hand);
+            }
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int seat = 0; seat < 2; seat++) {
+                    buckets[round][seat] = CardBucketer.bucket(hands[round][seat], opens[round][1 - seat]);
+                }
+            }
+        }
+
+        //traverser 좌석의 기대 칩 손익
+        private double walk(int depth, int traverser) {
+            Node s = nodes[depth];
+            while (true) {
+                if (s.folded >= 0) return payoff(s, traverser, 1 - s.folded);
+                if (roundOver(s)) {
+                    if (s.round == ROUNDS - 1) {
+                        int comparison = Integer.compare(showdown[0], showdown[1]);
+                        return payoff(s, traverser, comparison > 0 ? 0 : comparison < 0 ? 1 : -1);
+                    }
+                    s.round++;
+                    startRound(s);
+                    continue;
+                }
+                int actor = s.actor;
+                long toCall = Math.max(0L, s.currentBet - s.committed[actor]);
+                long coin = s.stack[actor];
+                if (toCall > 0 && coin <= toCall) { // 올인 콜 (BettingSystem.autoAction과 같이 자동)
+                    apply(s, actor, CALL);
+                    continue;
+                }
+                if (coin == 0) { // 올인 상태, 행동 없음
+                    s.acted[actor] = true;
+                    s.actor = 1 - actor;
+                    continue;
+                }
+                int legal = legalActions(s, actor, toCall, coin);
+                int infoset = CfrTables.infoset(s.round,
+                        CfrTables.stackClass(Math.min(s.stack[0], s.stack[1]), s.pot),
+                        CfrTables.node(s.acted[actor], s.acted[1 - actor], s.raised[actor], s.raised[1 - actor]),
+                        buckets[s.round][actor]);
+                double[] sigma = strategies[depth];
+                tables.currentStrategy(infoset, legal, sigma);
+
+                if (actor == traverser) {
+                    // 내 노드: 모든 행동 탐색 후 후회값 갱신
+                    double[] utility = utilities[depth];
+                    double nodeUtility = 0;
+                    Node child = nodes[depth + 1];
+                    for (int a = 0; a < ACTIONS; a++) {
+                        if ((legal & (1 << a)) == 0) continue;
+                        child.copyFrom(s);
+                        apply(child, actor, a);
+                        utility[a] = walk(depth + 1, traverser);
+                        nodeUtility += sigma[a] * utility[a];
+                    }
+                    for (int a = 0; a < ACTIONS; a++) {
+                        if ((legal & (1 << a)) != 0) tables.addRegret(infoset, a, utility[a] - nodeUtility);
+                    }
+                    return nodeUtility;
+                }
+                // 상대 노드: 평균 전략 누적 후 현재 전략으로 행동 하나 표본
+                for (int a = 0; a < ACTIONS; a++) {
+                    if ((legal & (1 << a)) != 0) tables.addStrategy(infoset, a, sigma[a]);
+                }
+                apply(s, actor, sample(sigma, legal));
+            }
+        }
+
+        //BettingSystem.legalActions와 같은 규칙 (체크할 수 있을 때의 폴드 제외)
+        private static int legalActions(Node s, int actor, long toCall, long coin) {
+            int legal = toCall > 0 ? (1 << FOLD) | (1 << CALL) : 1 << CHECK;
+            if ((s.pot > 0 || s.currentBet != 0) && !s.raised[actor] && coin > toCall) {
+                if (coin >= toCall + Math.max(1, s.pot / 4)) legal |= 1 << QUARTER_RAISE;
+                if (coin >= toCall + Math.max(1, s.pot / 2)) legal |= 1 << HALF_RAISE;
+            }
+            return legal;
+        }
+
+        private static void apply(Node s, int actor, int action) {
+            long toCall = Math.max(0L, s.currentBet - s.committed[actor]);
+            if (action == FOLD) {
+                s.folded = actor;
+            } else if (action == CALL) {
+                bet(s, actor, toCall);
+            } else if (action == QUARTER_RAISE || action == HALF_RAISE) {
+                long raise = Math.max(1, action == QUARTER_RAISE ? s.pot / 4 : s.pot / 2);
+                bet(s, actor, toCall + raise);
+                s.currentBet += raise;
+                s.raised[actor] = true;
+            }
+            s.acted[actor] = true;
+            s.actor = 1 - actor;
+        }
+
+        private static void bet(Node s, int seat, long amount) {
+            long paid = Math.min(amount, s.stack[seat]);
+            s.stack[seat] -= paid;
+            s.committed[seat] += paid;
+            s.pot += paid;
+        }
+
+        //BettingSystem.isBettingOver와 같은 규칙
+        private static boolean roundOver(Node s) {
+            boolean allIn0 = s.stack[0] <= 0, allIn1 = s.stack[1] <= 0;
+            if (allIn0 && allIn1) return true;
+            if ((allIn0 && s.acted[1]) || (allIn1 && s.acted[0])) return true;
+            if (!s.acted[0] || !s.acted[1]) return false;
+            return s.currentBet == 0 || (s.committed[0] == s.currentBet && s.committed[1] == s.currentBet);
+        }
+
+        //라운드 초기화 및 선 플레이어 결정 (첫 라운드: 첫 오픈카드 랭크, 문양 / 이후: 오픈 족보, 같으면 마지막 행동자 유지)
+        private void startRound(Node s) {
+            s.committed[0] = s.committed[1] = 0;
+            s.acted[0] = s.acted[1] = false;
+            s.raised[0] = s.raised[1] = false;
+            s.currentBet = 0;
+            int comparison;
+            if (s.round == 0) {
+                comparison = Integer.compare(rankOf(firstOpen[0]), rankOf(firstOpen[1]));
+                if (comparison == 0) comparison = Integer.compare(firstOpen[0] / 13, firstOpen[1] / 13);
+            } else {
+                comparison = Integer.compare(openStrength[s.round][0], openStrength[s.round][1]);
+            }
+            if (comparison > 0) s.actor = 0;
+            else if (comparison < 0) s.actor = 1;
+            else if (s.round > 0) s.actor = 1 - s.actor; // 마지막 행동자 (행동 후 차례가 넘어가 있으므로 되돌림)
+        }
+
+        //winner: 팟을 받는 좌석 (-1이면 나눔)
+        private static double payoff(Node s, int traverser, int winner) {
+            double won = winner < 0 ? s.pot / 2.0 : winner == traverser ? s.pot : 0;
+            return s.stack[traverser] + won - START_COIN;
+        }
+
+        private int sample(double[] sigma, int legal) {
+            double r = random.nextDouble();
+            int last = -1;
+            for (int a = 0; a < ACTIONS; a++) {
+                if ((legal & (1 << a)) == 0) continue;
+                last = a;
+                r -= sigma[a];
+                if (r < 0) return a;
+            }
+            return last;
+        }
+
+        private static int rankOf(int code) {
+            return code % 13 + 2;
+        }
+
+        //HandState.getRankKey와 같은 형식 (랭크 오름차순 4비트씩)
+        private static long rankKey(long cards) {
+            long key = 0L;
+            int shift = 0;
+            for (int bit = 0; bit < 13; bit++) {
+                for (int suit = 0; suit < 4; suit++) {
+                    if ((cards >>> (suit * 13 + bit) & 1L) != 0) {
+                        key |= (long) (bit + 2) << shift;
+                        shift += 4;
+                    }
+                }
+            }
+            return key;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("사용법: java solver.CfrTrainer <반복 수> <체크포인트 파일> [체크포인트 간격] [시드]");
+            return;
+        }
+        long iterations = Long.parseLong(args[0]);
+        Path checkpoint = Paths.get(args[1]);
+        long checkpointEvery = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_CHECKPOINT_EVERY;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        CfrTables tables = Files.exists(checkpoint) ? CfrTables.load(checkpoint) : new CfrTables();
+        CfrTrainer trainer = new CfrTrainer(tables);
+        System.out.println("시작 반복 " + tables.getIterations() + ", 정보 집합 " + CfrTables.INFOSETS
+                + ", 스레드 " + ForkJoinPool.commonPool().getParallelism());
+        trainer.train(iterations, checkpointEvery, checkpoint, seed, (total, rate) ->
+                System.out.printf("반복 %d (%.0f 반복/초), 체크포인트 저장%n", total, rate));
+    }
+}
@@ -5,6 +5,7 @@ import player.ComputerPlayer; // ComputerPlayer 타입 확인용
 import player.Player;       // Player 타입 확인용
 import player.UserPlayer;   // UserPlayer 타입 확인용
 import card.Card;
+import equity.EquityStrategy;
 
 import javax.swing.*;
 import java.awt.*;
@@ -12,7 +13,7 @@ import java.util.List;
 
 import exception.InvalidBetException;
 
-public class GameGUI extends JFrame {
+public class GameGUI extends JFrame implements GameEventListener {
 
     private GameManager manager;
 
@@ -30,6 +31,7 @@ public class GameGUI extends JFrame {
     private JButton callButton = new JButton("콜");
     private JButton halfRaiseButton = new JButton("하프");
     private JButton quarterRaiseButton = new JButton("쿼터");
+    private final long[] actionAmounts = new long[BetAction.values().length]; // 행동별 낼 코인 (legalActions)
     
 
     private JPanel userCardDisplayPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 5));
@@ -43,10 +45,10 @@ public class GameGUI extends JFrame {
     	this.manager = gameManager;
     	
         if (this.manager != null) {
-            this.manager.setGUI(this);
+            this.manager.setListener(this);
         } else {//manager가 null인 경우의 예외 처리        
             this.manager = new GameManager();
-            this.manager.setGUI(this);
+            this.manager.setListener(this);
         }
         
         setTitle("세븐포커");
@@ -156,7 +158,58 @@ public class GameGUI extends JFrame {
     }
 
 
-    //GameManager로부터 호출되는 메서드//
+    //GameManager로부터 호출되는 메서드 (GameEventListener)//
+
+    @Override
+    public void onStateChanged(GameManager gameManager) {
+        updateUI();
+    }
+
+    @Override
+    public void onDiscardSelectionRequested() {
+        promptDiscardSelection();
+    }
+
+    @Override
+    public void onOpenSelectionRequested() {
+        promptOpenSelection();
+    }
+
+    @Override
+    public void onBettingTurn(Player player) {
+        startBettingPhase(player);
+    }
+
+    //컴퓨터 차례는 1초 딜레이 후 GUI 타이머에서 진행
+    @Override
+    public boolean pacesComputerTurns() {
+        return true;
+    }
+
+    @Override
+    public void onAutoActionFailed(Player player, Exception e) {
+        e.printStackTrace(); // 컴퓨터 자동 베팅 오류는 폴드 처리 후 콘솔에 출력
+    }
+
+    @Override
+    public void onHandFinished(ShowdownResult result) {
+        displayGameResult(result.getMessage());
+    }
+
+    @Override
+    public void onNotEnoughCoins() {
+        showInfo("코인이 부족합니다. 게임을 재시작하세요.");
+        updateUI();
+    }
+
+    @Override
+    public void onGameOver(boolean noMoney) {
+        if (noMoney) {
+            showInfo(getInfoLabelText() + "<br>코인이 부족하여 '게임 재시작'만 가능합니다.");
+        } else {
+            showInfo(getInfoLabelText() + "<br>'게임 이어하기' 또는 '게임 재시작'을 선택하세요.");
+        }
+    }
 
     //사용자에게 버릴 카드를 선택하도록 요청
     public void promptDiscardSelection() {
@@ -426,12 +479,20 @@ public class GameGUI extends JFrame {
         boolean canAct = !user.isFolded() && 
                          !(user.getCoin() == 0 && manager.getBettingSystem().getCurrentBet() > user.getCurrentBet());
         
-        // 사용자가 행동할 수 있는 상태일 때만 버튼들을 기본적으로 활성화
-        foldButton.setEnabled(canAct);
-        checkButton.setEnabled(canAct);
-        callButton.setEnabled(canAct);
-        quarterRaiseButton.setEnabled(canAct && user.getCoin() > 0); // 레이즈는 최소한 코인이 있어야 시도 가능
-        halfRaiseButton.setEnabled(canAct && user.getCoin() > 0);
+        // 사용자가 행동할 수 있는 상태에서 규칙상 가능한 행동 버튼만 활성화, 낼 코인은 툴팁으로 표시
+        int legal = canAct ? manager.getBettingSystem().legalActions(user, actionAmounts) : 0;
+        updateBettingButton(foldButton, BetAction.FOLD, legal);
+        updateBettingButton(checkButton, BetAction.CHECK, legal);
+        updateBettingButton(callButton, BetAction.CALL, legal);
+        updateBettingButton(quarterRaiseButton, BetAction.QUARTER_RAISE, legal);
+        updateBettingButton(halfRaiseButton, BetAction.HALF_RAISE, legal);
+    }
+
+    private void updateBettingButton(JButton button, BetAction action, int legal) {
+        boolean enabled = action.isIn(legal);
+        button.setEnabled(enabled);
+        long amount = actionAmounts[action.ordinal()];
+        button.setToolTipText(enabled && amount > 0 ? amount + " 코인" : null);
     }
 
     private void disableBettingButtons() {
@@ -447,9 +508,12 @@ public class GameGUI extends JFrame {
         infoLabel.setText("<html><div style='text-align: center; padding: 5px;'>" + message.replaceAll("\n", "<br>") + "</div></html>");
     }
 
+    //실행 인자 equity: 컴퓨터를 에퀴티 기반 봇으로 (판단당 GameManager 제한 시간, 기본 2ms), 없으면 기본 규칙
     public static void main(String[] args) {
+        boolean equity = args.length > 0 && args[0].equals("equity");
         SwingUtilities.invokeLater(() -> {
             GameManager gameManager = new GameManager();
+            if (equity) gameManager.setStrategy(gameManager.getComputer(), new EquityStrategy());
             GameGUI gui = new GameGUI(gameManager);
             gui.setVisible(true);
         });